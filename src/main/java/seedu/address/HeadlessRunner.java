@@ -0,0 +1,105 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read line by line from a script, without starting the GUI, and prints the result of each.
+ * Blank lines and lines starting with {@code #} are skipped, and an {@code exit} command ends the script early.
+ * Changes are saved once at the end of the script, and additionally after every {@code checkpointInterval}
+ * commands if it is positive, instead of after every command.
+ */
+public class HeadlessRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands, %2$d failed.";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessRunner.class);
+
+    private final LogicManager logic;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a runner executing commands with {@code logic}, saving after every {@code checkpointInterval}
+     * commands, or only at the end if it is 0.
+     */
+    public HeadlessRunner(LogicManager logic, int checkpointInterval) {
+        requireNonNull(logic);
+        checkArgument(checkpointInterval >= 0, "Checkpoint interval cannot be negative");
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs every command in {@code script}, printing the result of each to {@code output}.
+     *
+     * @return the number of commands that failed, including a failure to save.
+     * @throws IOException if the script could not be read. Changes made so far are saved first.
+     */
+    public int run(BufferedReader script, PrintStream output) throws IOException {
+        requireNonNull(script);
+        requireNonNull(output);
+        logic.setSavingAfterEachCommand(false);
+
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    output.println(result.getFeedbackToUser());
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    output.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                }
+
+                if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                    failureCount += save(output);
+                }
+            }
+        } finally {
+            failureCount += save(output);
+        }
+
+        output.println(String.format(MESSAGE_SUMMARY, commandCount, failureCount));
+        return failureCount;
+    }
+
+    /**
+     * Saves the changes made so far, returning 1 if they could not be saved and 0 otherwise.
+     */
+    private int save(PrintStream output) {
+        try {
+            logic.saveWhoDat();
+            return 0;
+        } catch (CommandException e) {
+            logger.warning("Failed to save script changes: " + e.getMessage());
+            output.println(e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -25,6 +26,12 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            // Scripts are run without starting the JavaFX runtime at all.
+            runHeadless(appParameters);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -38,4 +45,16 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    private static void runHeadless(AppParameters appParameters) {
+        int failureCount;
+        try {
+            failureCount = MainApp.runHeadless(appParameters);
+        } catch (IOException e) {
+            logger.severe("Failed to read script " + appParameters.getScriptPath() + ": " + e.getMessage());
+            System.err.println("Could not read script " + appParameters.getScriptPath() + ": " + e.getMessage());
+            failureCount = 1;
+        }
+        System.exit(failureCount == 0 ? 0 : 1);
+    }
 }
@@ -1,6 +1,10 @@
 package seedu.address;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -22,6 +26,8 @@ import seedu.address.model.ReadOnlyWhoDat;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.WhoDat;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryWhoDatStorage;
+import seedu.address.storage.JournalWhoDatStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonWhoDatStorage;
 import seedu.address.storage.Storage;
@@ -47,25 +53,82 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** The JSON data file, rewritten from the contact list whenever WhoDat exits after changing it. */
+    private JsonWhoDatStorage jsonExportStorage;
+    private long initialWhoDatVersion;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing WhoDat ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        logic = new LogicManager(model, storage);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Runs the script given in {@code appParameters} without starting the GUI, printing the result of each command.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if the script could not be read.
+     */
+    static int runHeadless(AppParameters appParameters) throws IOException {
+        assert appParameters.isHeadless() : "A script must be given to run without the GUI.";
+        logger.info("=============================[ Running WhoDat script ]=========================");
+
+        MainApp app = new MainApp();
+        app.initComponents(appParameters);
+        LogicManager logic = new LogicManager(app.model, app.storage);
+        HeadlessRunner runner = new HeadlessRunner(logic, appParameters.getCheckpointInterval());
+
+        Path scriptPath = appParameters.getScriptPath();
+        try (BufferedReader script = scriptPath.equals(AppParameters.STDIN_SCRIPT_PATH)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            return runner.run(script, System.out);
+        } finally {
+            app.exportWhoDat();
+        }
+    }
+
+    /**
+     * Sets up the config, logging, storage and model described by {@code appParameters}.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        WhoDatStorage whoDatStorage = new JsonWhoDatStorage(userPrefs.getWhoDatFilePath());
+        Path jsonFilePath = userPrefs.getWhoDatFilePath();
+        jsonExportStorage = new JsonWhoDatStorage(jsonFilePath);
+        WhoDatStorage whoDatStorage = new JournalWhoDatStorage(new BinaryWhoDatStorage(
+                BinaryWhoDatStorage.toBinaryFilePath(jsonFilePath), jsonExportStorage));
         storage = new StorageManager(whoDatStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        initialWhoDatVersion = model.getWhoDatVersion();
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Writes the contact list to the JSON data file if it changed since WhoDat started, so that the JSON file
+     * stays an up-to-date export of the binary data file.
+     * An unchanged contact list is not written, so a JSON file is never overwritten by data that failed to load.
+     */
+    private void exportWhoDat() {
+        if (model.getWhoDatVersion() == initialWhoDatVersion) {
+            return;
+        }
 
-        ui = new UiManager(logic);
+        try {
+            jsonExportStorage.saveWhoDat(model.getWhoDat());
+        } catch (IOException e) {
+            logger.warning("Failed to export data to " + jsonExportStorage.getWhoDatFilePath() + " "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     /**
@@ -178,6 +241,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping WhoDat ] =============================");
+        try {
+            storage.flushWhoDat();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        exportWhoDat();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading comma-separated values.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits one line of comma-separated values into its fields, in order.
+     * A field enclosed in double quotes may contain commas, and two double quotes in it stand for one.
+     * Fields are not trimmed, and a field cannot span several lines.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed, or is followed by anything but a comma.
+     */
+    public static List<String> splitLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE && field.length() == 0) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException("Unexpected character after a quoted field: " + line);
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    field.append(line.charAt(i++));
+                }
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Appends the quoted field starting after the opening quote at {@code start} to {@code field}, and returns the
+     * position after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c != QUOTE) {
+                field.append(c);
+            } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                field.append(QUOTE);
+                i++;
+            } else {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unclosed quote in: " + line);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical immutable values, each created from a string key.
+ * Interning the same key again returns the same instance for as long as that instance is still in use elsewhere,
+ * so values that repeat across many objects are held in memory only once.
+ * The pool only holds weak references, so values no longer in use can be garbage collected.
+ *
+ * @param <T> the type of values in the pool
+ */
+public class Interner<T> {
+
+    private final Function<String, T> factory;
+    private final Map<String, KeyedReference<T>> pool = new HashMap<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Creates an empty pool whose values are created from their keys by {@code factory}.
+     */
+    public Interner(Function<String, T> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with the factory if there is none yet.
+     * Any exception thrown by the factory is passed on, and nothing is pooled in that case.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        removeCollected();
+
+        KeyedReference<T> reference = pool.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(key, new KeyedReference<>(key, value, collected));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of keys in the pool, including those whose values were collected but not yet removed.
+     */
+    public synchronized int size() {
+        removeCollected();
+        return pool.size();
+    }
+
+    private void removeCollected() {
+        KeyedReference<?> reference;
+        while ((reference = (KeyedReference<?>) collected.poll()) != null) {
+            // the key may have been interned again since
+            pool.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers the value's key.
+     */
+    private static class KeyedReference<T> extends WeakReference<T> {
+        private final String key;
+
+        KeyedReference(String key, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.checkIndex;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list whose modified copies share most of their structure with the original.
+ * The elements are held in a balanced tree (a treap ordered by position), so {@link #get}, {@link #with},
+ * {@link #plus} and {@link #minus} each take logarithmic time and only copy the nodes on one path, and an existing
+ * list never changes. This makes a list safe to hand to other threads without copying or locking.
+ *
+ * @param <E> the type of elements in the list
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    /** Nodes built in bulk are given the highest priorities, above any priority drawn at random. */
+    private static final int MAX_RANDOM_PRIORITY = Integer.MAX_VALUE - Integer.SIZE;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order, in linear time.
+     */
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size(), 0));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} appended.
+     */
+    public PersistentList<E> plus(E element) {
+        Node<E> leaf = new Node<>(element, null, null, ThreadLocalRandom.current().nextInt(MAX_RANDOM_PRIORITY));
+        return new PersistentList<>(merge(root, leaf));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to, int depth) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle, depth + 1),
+                build(elements, middle + 1, to, depth + 1), Integer.MAX_VALUE - depth);
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return node.withChildren(set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return node.withChildren(node.left, set(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right, node.priority);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return node.withChildren(remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return node.withChildren(node.left, remove(node.right, index - leftSize - 1));
+        }
+        return merge(node.left, node.right);
+    }
+
+    /**
+     * Returns the elements of {@code first} followed by those of {@code second}, keeping higher priorities above
+     * lower ones.
+     */
+    private static <E> Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority >= second.priority) {
+            return first.withChildren(first.left, merge(first.right, second));
+        }
+        return second.withChildren(merge(first, second.left), second.right);
+    }
+
+    /**
+     * An immutable tree node. Its priority is never lower than its children's, which keeps the tree balanced.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int priority;
+
+        Node(E value, Node<E> left, Node<E> right, int priority) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + size(left) + size(right);
+            this.priority = priority;
+        }
+
+        Node<E> withChildren(Node<E> left, Node<E> right) {
+            return new Node<>(value, left, right, priority);
+        }
+    }
+
+    /**
+     * Walks a tree in order, keeping the path to the next node on a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmost(root);
+        }
+
+        private void pushLeftmost(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmost(node.right);
+            return node.value;
+        }
+    }
+}
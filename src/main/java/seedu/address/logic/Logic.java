@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyWhoDat;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveStatus;
 
 /**
  * API of the Logic component
@@ -30,11 +33,17 @@ public interface Logic {
      */
     ReadOnlyWhoDat getWhoDat();
 
+    /**
+     * Returns completions for the partially typed word {@code prefix}, taken from the students' names,
+     * student ids, class ids and tags. Safe to call from a background thread.
+     */
+    List<String> getCompletions(String prefix);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns the user prefs' WhoDat file path.
+     * Returns the path of the data file the contact list is saved to.
      */
     Path getWhoDatFilePath();
 
@@ -47,4 +56,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Registers {@code listener} to be told when the data starts and finishes being saved.
+     * The listener may be called from a background thread.
+     */
+    void addSaveStatusListener(Consumer<SaveStatus> listener);
 }
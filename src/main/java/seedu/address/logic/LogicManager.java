@@ -2,7 +2,11 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +20,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyWhoDat;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveStatus;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,12 +32,21 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Maximum number of completions offered for a partially typed word. */
+    public static final int MAX_COMPLETIONS = 8;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final WhoDatParser whoDatParser;
 
+    /** Version of the model's contact list that was last sent to storage, or -1 if it has never been sent. */
+    private long lastSavedVersion;
+
+    /** Whether changes are sent to storage after every command, rather than only by {@link #saveWhoDat()}. */
+    private boolean isSavingAfterEachCommand = true;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,6 +54,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         whoDatParser = new WhoDatParser();
+        lastSavedVersion = Files.exists(storage.getWhoDatFilePath()) ? model.getWhoDatVersion() : -1;
     }
 
     @Override
@@ -50,17 +65,60 @@ public class LogicManager implements Logic {
         Command command = whoDatParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (!isSavingAfterEachCommand) {
+            return commandResult;
+        }
+
+        // Saving happens in the background; a failed save is retried and reported after the next command's result,
+        // which still succeeded.
+        Optional<IOException> saveFailure = storage.getWhoDatSaveFailure();
+        scheduleSave(saveFailure.isPresent());
+        return saveFailure.map(e -> commandResult.withExtraFeedback(describeSaveFailure(e))).orElse(commandResult);
+    }
+
+    /**
+     * Sets whether changes are saved after every command. When they are not, they are only saved by
+     * {@link #saveWhoDat()}, so running many commands in a row costs a single write.
+     */
+    public void setSavingAfterEachCommand(boolean isSavingAfterEachCommand) {
+        this.isSavingAfterEachCommand = isSavingAfterEachCommand;
+    }
+
+    /**
+     * Saves any changes to the contact list not yet saved, and waits until they have been written.
+     *
+     * @throws CommandException if the changes could not be written.
+     */
+    public void saveWhoDat() throws CommandException {
+        scheduleSave(false);
         try {
-            storage.saveWhoDat(model.getWhoDat());
-        } catch (AccessDeniedException e) {
-            logger.warning("Failed to save data due to insufficient permissions: " + e.getMessage());
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            logger.warning("Failed to save data due to IOException: " + ioe.getMessage());
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            storage.flushWhoDat();
+        } catch (IOException e) {
+            throw new CommandException(describeSaveFailure(e), e);
         }
+    }
 
-        return commandResult;
+    /**
+     * Schedules a background save of the contact list if it changed since it was last sent to storage, or if
+     * {@code isRetry} is true.
+     */
+    private void scheduleSave(boolean isRetry) {
+        long currentVersion = model.getWhoDatVersion();
+        if (currentVersion != lastSavedVersion || isRetry) {
+            storage.saveWhoDatInBackground(model.getWhoDat());
+            lastSavedVersion = currentVersion;
+        } else {
+            logger.fine("Contact list unchanged, skipping save");
+        }
+    }
+
+    private String describeSaveFailure(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            logger.warning("Failed to save data due to insufficient permissions: " + e.getMessage());
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        logger.warning("Failed to save data due to IOException: " + e.getMessage());
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -68,6 +126,11 @@ public class LogicManager implements Logic {
         return model.getWhoDat();
     }
 
+    @Override
+    public List<String> getCompletions(String prefix) {
+        return model.getWhoDat().getCompletions(prefix, MAX_COMPLETIONS);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -75,7 +138,7 @@ public class LogicManager implements Logic {
 
     @Override
     public Path getWhoDatFilePath() {
-        return model.getWhoDatFilePath();
+        return storage.getWhoDatFilePath();
     }
 
     @Override
@@ -87,4 +150,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {
+        storage.addSaveStatusListener(listener);
+    }
 }
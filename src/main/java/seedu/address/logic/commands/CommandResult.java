@@ -48,6 +48,14 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns a copy of this result with {@code extraFeedback} shown on a new line after the feedback.
+     */
+    public CommandResult withExtraFeedback(String extraFeedback) {
+        requireNonNull(extraFeedback);
+        return new CommandResult(feedbackToUser + "\n" + extraFeedback, showHelp, exit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,8 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,7 +10,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 
 /**
- * Deletes a person identified using it's displayed index from the contact list.
+ * Deletes the person with a given student id from the contact list.
  */
 public class DeleteCommand extends Command {
 
@@ -38,17 +36,10 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Person personToDelete = lastShownList.stream()
-                .filter(person -> person.getStudentId().equals(targetId))
-                .findFirst()
-                .orElse(null);
 
-        if (personToDelete == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_STUDENTID);
-            //may need to change this message
-        }
+        Person personToDelete = model.findByStudentId(targetId)
+                .orElseThrow(() -> new CommandException(
+                        String.format(Messages.MESSAGE_PERSON_NOT_FOUND, targetId)));
 
         model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
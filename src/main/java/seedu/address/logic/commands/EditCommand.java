@@ -6,11 +6,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -69,37 +67,35 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
 
-        Person personToEdit = findPersonByStudentId(lastShownList, studentId.value);
-        if (personToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_STUDENTID);
-        }
+        Person personToEdit = model.findByStudentId(studentId)
+                .orElseThrow(() -> new CommandException(
+                        String.format(Messages.MESSAGE_PERSON_NOT_FOUND, studentId)));
 
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        if (!personToEdit.hasSameStudentIdAndEmailId(editedPerson) && model.hasPerson(editedPerson)) {
+        if (isIdentityTakenByOtherPerson(model, personToEdit, editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
+
     /**
-     * Returns the unique person with matching student ID, or null if not found.
-     * @param people List of Person objects to search
-     * @param targetStudentId The student ID to match
-     * @return The matching Person or null
+     * Returns true if the student id or email id of {@code editedPerson} already belongs to a person in
+     * {@code model} other than {@code personToEdit}.
      */
-    public static Person findPersonByStudentId(List<Person> people, String targetStudentId) {
-        for (Person person : people) {
-            if (person.getStudentId().toString().equals(targetStudentId)) {
-                return person;
-            }
-        }
-        return null;
+    private static boolean isIdentityTakenByOtherPerson(Model model, Person personToEdit, Person editedPerson) {
+        boolean isStudentIdTaken = model.findByStudentId(editedPerson.getStudentId())
+                .filter(owner -> !owner.equals(personToEdit))
+                .isPresent();
+        boolean isEmailIdTaken = model.findByEmail(editedPerson.getEmail())
+                .filter(owner -> !owner.equals(personToEdit))
+                .isPresent();
+        return isStudentIdTaken || isEmailIdTaken;
     }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -135,7 +131,7 @@ public class EditCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("student ID", studentId.value)
+                .add("student ID", studentId.getValue())
                 .add("editPersonDescriptor", editPersonDescriptor)
                 .toString();
     }
@@ -7,6 +7,7 @@ import java.util.Objects;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.FuzzyNameMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.StudentIdMatchPredicate;
 
@@ -21,27 +22,39 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_FLAG = "--fuzzy";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive)"
             + "or match the given student number"
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + FUZZY_FLAG + ", names with slightly misspelt keywords are also found, closest first.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " alcie";
 
     private final NameContainsKeywordsPredicate namePredicate;
 
     private final StudentIdMatchPredicate idPredicate;
 
+    private final FuzzyNameMatchPredicate fuzzyPredicate;
+
     /**
      * @param namePredicate predicate regarding the keywords in a student's name the user wants to find
      * @param idPredicate predicate regarding the studentId the user wants to find
      */
     public FindCommand(NameContainsKeywordsPredicate namePredicate, StudentIdMatchPredicate idPredicate) {
-        if (namePredicate == null && idPredicate == null) {
+        this(namePredicate, idPredicate, null);
+    }
+
+    private FindCommand(NameContainsKeywordsPredicate namePredicate, StudentIdMatchPredicate idPredicate,
+            FuzzyNameMatchPredicate fuzzyPredicate) {
+        if (namePredicate == null && idPredicate == null && fuzzyPredicate == null) {
             throw new IllegalArgumentException("At least one predicate must be provided.");
         }
         this.namePredicate = namePredicate;
         this.idPredicate = idPredicate;
+        this.fuzzyPredicate = fuzzyPredicate;
     }
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
@@ -52,10 +65,16 @@ public class FindCommand extends Command {
         this(null, predicate);
     }
 
+    public FindCommand(FuzzyNameMatchPredicate predicate) {
+        this(null, null, predicate);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (idPredicate == null) {
+        if (fuzzyPredicate != null) {
+            model.updateFilteredPersonList(fuzzyPredicate, fuzzyPredicate.getRanking());
+        } else if (idPredicate == null) {
             model.updateFilteredPersonList(namePredicate);
         } else {
             model.updateFilteredPersonList(idPredicate);
@@ -77,13 +96,18 @@ public class FindCommand extends Command {
 
         FindCommand otherFindCommand = (FindCommand) other;
         return Objects.equals(namePredicate, otherFindCommand.namePredicate)
-                && Objects.equals(idPredicate, otherFindCommand.idPredicate);
+                && Objects.equals(idPredicate, otherFindCommand.idPredicate)
+                && Objects.equals(fuzzyPredicate, otherFindCommand.fuzzyPredicate);
 
     }
 
     @Override
     public String toString() {
-        if (idPredicate == null) {
+        if (fuzzyPredicate != null) {
+            return new ToStringBuilder(this)
+                    .add("fuzzy predicate", fuzzyPredicate)
+                    .toString();
+        } else if (idPredicate == null) {
             return new ToStringBuilder(this)
                     .add("name predicate", namePredicate)
                     .toString();
@@ -0,0 +1,295 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.EmailId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds every student in a CSV file to the contact list at once.
+ * The rows are streamed from the file and validated in parallel, checked for duplicates in a single pass, and the
+ * valid ones are added with a single update to the contact list. Invalid and duplicate rows are skipped and reported
+ * by row number.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds every student in a CSV file to the contact list. "
+            + "The first row must name the columns name, student id, email id and class id in any order, and may "
+            + "name a tags column with tags separated by spaces.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_ROWS_SKIPPED = "%1$d rows skipped:";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row of the file must name the columns: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "Same student id/email id as row %1$d";
+
+    /** Maximum number of skipped rows described in the result, so a badly formed file does not flood it. */
+    public static final int MAX_ROW_ERRORS_SHOWN = 20;
+
+    private static final String COLUMN_NAME = "name";
+    private static final String COLUMN_STUDENT_ID = "student id";
+    private static final String COLUMN_EMAIL_ID = "email id";
+    private static final String COLUMN_CLASS_ID = "class id";
+    private static final String COLUMN_TAGS = "tags";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_STUDENT_ID, COLUMN_EMAIL_ID, COLUMN_CLASS_ID);
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final String TAG_SEPARATOR_REGEX = "[\\s;]+";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the students in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<ParsedRow> rows;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS,
+                        String.join(", ", REQUIRED_COLUMNS)));
+            }
+
+            Columns columns = parseHeader(header);
+            rows = reader.lines()
+                    .parallel()
+                    .map(line -> line.isBlank() ? ParsedRow.BLANK : parseRow(line, columns))
+                    .collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        List<Person> toAdd = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+        findUniquePersons(model, rows, toAdd, rowErrors);
+        model.addPersons(toAdd);
+        logger.info("Imported " + toAdd.size() + " persons from " + filePath + ", skipped " + rowErrors.size());
+
+        return new CommandResult(describeResult(toAdd.size(), rowErrors));
+    }
+
+    /**
+     * Returns the positions of the columns named in the {@code header} row.
+     *
+     * @throws CommandException if a required column is not named.
+     */
+    private static Columns parseHeader(String header) throws CommandException {
+        List<String> names;
+        try {
+            names = CsvUtil.splitLine(header.replace(BYTE_ORDER_MARK, ""));
+        } catch (IllegalArgumentException e) {
+            names = List.of();
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_]+", " ");
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", REQUIRED_COLUMNS)));
+        }
+        return new Columns(columns, names.size());
+    }
+
+    /**
+     * Parses the row in {@code line} into a person, or describes why it is invalid.
+     * Each field is parsed with the same parser as the {@code add} command uses.
+     */
+    private static ParsedRow parseRow(String line, Columns columns) {
+        try {
+            List<String> fields = CsvUtil.splitLine(line);
+            if (fields.size() != columns.count) {
+                return ParsedRow.invalid(String.format(MESSAGE_WRONG_FIELD_COUNT, columns.count,
+                        fields.size()));
+            }
+
+            Name name = ParserUtil.parseName(fields.get(columns.name));
+            StudentId studentId = ParserUtil.parseStudentId(fields.get(columns.studentId));
+            EmailId emailId = ParserUtil.parseEmail(fields.get(columns.emailId));
+            ClassId classId = ParserUtil.parseClassId(fields.get(columns.classId));
+            String tagsField = columns.tags != Columns.ABSENT ? fields.get(columns.tags).trim() : "";
+            Set<Tag> tags = ParserUtil.parseTags(tagsField.isEmpty()
+                    ? List.of()
+                    : Arrays.asList(tagsField.split(TAG_SEPARATOR_REGEX)));
+            return ParsedRow.valid(new Person(name, studentId, emailId, classId, tags));
+        } catch (ParseException | IllegalArgumentException e) {
+            return ParsedRow.invalid(e.getMessage());
+        }
+    }
+
+    /**
+     * Sorts the valid {@code rows}, which follow the header row in file order, into the persons to add and the
+     * duplicates to skip, in a single pass.
+     * A row is a duplicate if its person is already in the contact list, or shares a student id or email id with
+     * an earlier row.
+     */
+    private static void findUniquePersons(Model model, List<ParsedRow> rows, List<Person> toAdd,
+            List<String> rowErrors) {
+        Map<StudentId, Integer> rowsByStudentId = new HashMap<>();
+        Map<EmailId, Integer> rowsByEmailId = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedRow row = rows.get(i);
+            int rowNumber = i + 2; // the header is row 1
+            if (row == ParsedRow.BLANK) {
+                continue;
+            }
+            if (row.person == null) {
+                rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, row.error));
+                continue;
+            }
+
+            Person person = row.person;
+            Integer earlierRow = rowsByStudentId.get(person.getStudentId());
+            if (earlierRow == null) {
+                earlierRow = rowsByEmailId.get(person.getEmail());
+            }
+            if (model.hasPerson(person)) {
+                rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, AddCommand.MESSAGE_DUPLICATE_PERSON));
+            } else if (earlierRow != null) {
+                rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber,
+                        String.format(MESSAGE_DUPLICATE_IN_FILE, earlierRow)));
+            } else {
+                rowsByStudentId.put(person.getStudentId(), rowNumber);
+                rowsByEmailId.put(person.getEmail(), rowNumber);
+                toAdd.add(person);
+            }
+        }
+    }
+
+    private String describeResult(int importedCount, List<String> rowErrors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, filePath));
+        if (rowErrors.isEmpty()) {
+            return message.toString();
+        }
+
+        message.append("\n").append(String.format(MESSAGE_ROWS_SKIPPED, rowErrors.size()));
+        rowErrors.stream().limit(MAX_ROW_ERRORS_SHOWN).forEach(error -> message.append("\n").append(error));
+        if (rowErrors.size() > MAX_ROW_ERRORS_SHOWN) {
+            message.append("\n").append(String.format(MESSAGE_MORE_ROW_ERRORS,
+                    rowErrors.size() - MAX_ROW_ERRORS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The positions of the columns in the file, and the number of fields every row must have.
+     */
+    private static class Columns {
+        static final int ABSENT = -1;
+
+        private final int name;
+        private final int studentId;
+        private final int emailId;
+        private final int classId;
+        private final int tags;
+        private final int count;
+
+        Columns(Map<String, Integer> positions, int count) {
+            this.name = positions.get(COLUMN_NAME);
+            this.studentId = positions.get(COLUMN_STUDENT_ID);
+            this.emailId = positions.get(COLUMN_EMAIL_ID);
+            this.classId = positions.get(COLUMN_CLASS_ID);
+            this.tags = positions.getOrDefault(COLUMN_TAGS, ABSENT);
+            this.count = count;
+        }
+    }
+
+    /**
+     * A row of the file, parsed into either a person or the reason it is invalid.
+     * Rows carry no row number; it follows from their position, since the parallel stream keeps file order.
+     */
+    private static class ParsedRow {
+        /** A blank row, which is skipped but still counted. */
+        static final ParsedRow BLANK = new ParsedRow(null, null);
+
+        private final Person person;
+        private final String error;
+
+        private ParsedRow(Person person, String error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        static ParsedRow valid(Person person) {
+            return new ParsedRow(person, null);
+        }
+
+        static ParsedRow invalid(String error) {
+            return new ParsedRow(null, error);
+        }
+    }
+}
@@ -2,12 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DeletionReport;
 import seedu.address.model.Model;
 import seedu.address.model.person.StudentId;
 
@@ -25,14 +27,10 @@ public class MultipleDeleteCommand extends Command {
     private static final String MISSING_STUDENTS_PREFIX = "Students not found(Student ID): ";
     private static final String INVALID_STUDENTS_PREFIX = "Invalid Student ID(s): ";
 
-    private static Logger logger = Logger.getLogger("Foo");
+    private static final Logger logger = LogsCenter.getLogger(MultipleDeleteCommand.class);
 
-    private StudentId[] validStudentIdsToRemove;
-    private List<String> invalidStudentIdStrings;
-    private List<String> missingStudentStringsList = new LinkedList<>();
-    private List<String> successfullyDeletedStudentStringsList = new LinkedList<>();
-
-    private DeleteCommand[] deleteCommandsToExecute;
+    private final StudentId[] validStudentIdsToRemove;
+    private final List<String> invalidStudentIdStrings;
 
     /**
      * Creates MultipleDeleteCommandObject.
@@ -40,77 +38,55 @@ public class MultipleDeleteCommand extends Command {
     public MultipleDeleteCommand(StudentId[] studentIdArray, List<String> invalidStudentIdStrings) {
         this.validStudentIdsToRemove = studentIdArray;
         this.invalidStudentIdStrings = invalidStudentIdStrings;
-
-        int numStudentIdsToRemove = validStudentIdsToRemove.length;
-        deleteCommandsToExecute = new DeleteCommand[numStudentIdsToRemove];
-        for (int i = 0; i < numStudentIdsToRemove; i++) {
-            StudentId studentIdToRemove = validStudentIdsToRemove[i];
-            deleteCommandsToExecute[i] = new DeleteCommand(studentIdToRemove);
-        }
     }
 
-    public DeleteCommand[] getDeleteCommandsToExecute() {
-        return deleteCommandsToExecute;
+    public StudentId[] getStudentIdsToDelete() {
+        return validStudentIdsToRemove;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        for (DeleteCommand deleteCommandToExecute : deleteCommandsToExecute) {
-            handleDeleteCommandExecution(deleteCommandToExecute, model);
-        }
-
-        String successfullyDeletedStudentsString =
-                getCombinedStringFromListOfString(successfullyDeletedStudentStringsList);
-        String missingStudentsString = getCombinedStringFromListOfString(missingStudentStringsList);
-        String invalidStudentString = getCombinedStringFromListOfString(invalidStudentIdStrings);
-
-        String message = SUCCESSFULLY_DELETED_STUDENTS_PREFIX + successfullyDeletedStudentsString + "\n"
-                + MISSING_STUDENTS_PREFIX + missingStudentsString + "\n"
-                + INVALID_STUDENTS_PREFIX + invalidStudentString;
-
-        if (!invalidStudentString.isEmpty()) {
-            message += "\n" + MESSAGE_USAGE;
-        }
-
-        return new CommandResult(message);
+        requireNonNull(model);
+        DeletionReport report = model.deletePersons(Arrays.asList(validStudentIdsToRemove))
+                .withInvalidStudentIds(invalidStudentIdStrings);
+        logger.info("Deleted " + report.getDeletedPersons().size() + " students, "
+                + report.getMissingStudentIds().size() + " not found, "
+                + report.getInvalidStudentIds().size() + " invalid");
+
+        return new CommandResult(describeReport(report));
     }
 
     /**
-     * Combines the list of strings into one comma-separated string.
+     * Lists the deleted, missing and invalid student ids in {@code report}.
      */
-    public static String getCombinedStringFromListOfString(List<String> stringList) {
-        requireNonNull(stringList);
-        String resultingString = "";
-        int numStrings = stringList.size();
-        for (int i = 0; i < numStrings; i++) {
-            String s = stringList.get(i);
-            if (i == numStrings - 1) {
-                resultingString += s;
-            } else {
-                resultingString += (s + ", ");
-            }
+    private static String describeReport(DeletionReport report) {
+        List<String> deletedStudentIdStrings = report.getDeletedPersons().stream()
+                .map(person -> person.getStudentId().toString())
+                .collect(Collectors.toList());
+        List<String> missingStudentIdStrings = report.getMissingStudentIds().stream()
+                .map(StudentId::toString)
+                .collect(Collectors.toList());
+
+        StringBuilder message = new StringBuilder()
+                .append(SUCCESSFULLY_DELETED_STUDENTS_PREFIX)
+                .append(getCombinedStringFromListOfString(deletedStudentIdStrings)).append("\n")
+                .append(MISSING_STUDENTS_PREFIX)
+                .append(getCombinedStringFromListOfString(missingStudentIdStrings)).append("\n")
+                .append(INVALID_STUDENTS_PREFIX)
+                .append(getCombinedStringFromListOfString(report.getInvalidStudentIds()));
+
+        if (!report.getInvalidStudentIds().isEmpty()) {
+            message.append("\n").append(MESSAGE_USAGE);
         }
-        return resultingString;
+        return message.toString();
     }
 
     /**
-     * Executes delete command. If the delete command fails, it is handled here as well.
+     * Combines the list of strings into one comma-separated string.
      */
-    public void handleDeleteCommandExecution(DeleteCommand deleteCommand, Model model) {
-        try {
-            deleteCommand.execute(model);
-            StudentId successfullyDeletedStudent = deleteCommand.getStudentIdToDelete();
-            String successfullyDeletedStudentString = successfullyDeletedStudent.toString();
-
-            String loggerMessage = "Deleted: " + successfullyDeletedStudentString;
-            logger.log(Level.INFO, loggerMessage);
-
-            successfullyDeletedStudentStringsList.add(successfullyDeletedStudentString);
-        } catch (CommandException ce) {
-            StudentId missingStudentId = deleteCommand.getStudentIdToDelete();
-            String missingStudentIdString = missingStudentId.toString();
-            missingStudentStringsList.add(missingStudentIdString);
-        }
+    public static String getCombinedStringFromListOfString(List<String> stringList) {
+        requireNonNull(stringList);
+        return String.join(", ", stringList);
     }
 
 }
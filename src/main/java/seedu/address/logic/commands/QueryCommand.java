@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+
+/**
+ * Lists the students matching a boolean query over their classes, tags, names and student ids.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "q";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the students matching a query made of terms joined by AND, OR and NOT, "
+            + "grouped with parentheses if needed. NOT binds tightest, then AND, then OR.\n"
+            + "Terms: class:CLASS_ID tag:TAG name:WORD id:STUDENT_ID\n"
+            + "Example: " + COMMAND_WORD + " class:CS2103T-01 AND tag:NeedHelp AND NOT name:john";
+
+    private final Query query;
+
+    /**
+     * Creates a {@code QueryCommand} listing the students that {@code query} matches.
+     */
+    public QueryCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
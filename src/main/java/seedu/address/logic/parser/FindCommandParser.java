@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FuzzyNameMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.StudentIdMatchPredicate;
@@ -29,6 +30,15 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] trimmedArgsSplitted = trimmedArgs.split("\\s+");
+        if (trimmedArgsSplitted[0].equals(FindCommand.FUZZY_FLAG)) {
+            if (trimmedArgsSplitted.length == 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(new FuzzyNameMatchPredicate(
+                    Arrays.asList(Arrays.copyOfRange(trimmedArgsSplitted, 1, trimmedArgsSplitted.length))));
+        }
+
         Pattern pattern = Pattern.compile("A\\d{7}[A-Z]", Pattern.CASE_INSENSITIVE);
         if (pattern.matcher(trimmedArgsSplitted[0]).matches()) {
             if (trimmedArgsSplitted.length > 1) {
@@ -66,7 +66,7 @@ public class ParserUtil {
         if (!ClassId.isValidClassId(trimmedClassId)) {
             throw new ParseException(ClassId.MESSAGE_CONSTRAINTS);
         }
-        return new ClassId(trimmedClassId);
+        return ClassId.of(trimmedClassId);
     }
 
     /**
@@ -212,7 +212,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,193 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.person.StudentIdMatchPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TermQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * The grammar, from loosest to tightest binding, is:
+ * <pre>
+ *     query   := and ("OR" and)*
+ *     and     := not ("AND" not)*
+ *     not     := "NOT" not | "(" query ")" | term
+ *     term    := ("class" | "tag" | "name" | "id") ":" value
+ * </pre>
+ * Operators and fields are case-insensitive.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s";
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        Tokens tokens = new Tokens(tokenize(args));
+        if (!tokens.hasNext()) {
+            throw invalidFormat();
+        }
+
+        Query query = parseOr(tokens);
+        if (tokens.hasNext()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private static Query parseOr(Tokens tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd(tokens));
+        while (tokens.accept(OPERATOR_OR)) {
+            operands.add(parseAnd(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private static Query parseAnd(Tokens tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot(tokens));
+        while (tokens.accept(OPERATOR_AND)) {
+            operands.add(parseNot(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private static Query parseNot(Tokens tokens) throws ParseException {
+        if (tokens.accept(OPERATOR_NOT)) {
+            return new NotQuery(parseNot(tokens));
+        }
+        if (tokens.accept(OPEN_PARENTHESIS)) {
+            Query query = parseOr(tokens);
+            if (!tokens.accept(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+        return parseTerm(tokens);
+    }
+
+    private static Query parseTerm(Tokens tokens) throws ParseException {
+        if (!tokens.hasNext()) {
+            throw invalidFormat();
+        }
+        String token = tokens.peek();
+        int separator = token.indexOf(':');
+        if (separator < 0 || isOperator(token)) {
+            throw invalidFormat();
+        }
+        tokens.skip();
+
+        String field = token.substring(0, separator).toLowerCase(Locale.ROOT);
+        String value = token.substring(separator + 1);
+        switch (field) {
+        case "class":
+            return new TermQuery(new StudentHasSameClassIdPredicate(ParserUtil.parseClassId(value)));
+        case "tag":
+            return new TermQuery(new StudentHasSameTagPredicate(ParserUtil.parseTag(value)));
+        case "name":
+            if (!Name.isValidName(value)) {
+                throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+            }
+            return new TermQuery(new NameContainsKeywordsPredicate(List.of(value)));
+        case "id":
+            return new TermQuery(new StudentIdMatchPredicate(
+                    ParserUtil.parseStudentId(value.toUpperCase(Locale.ROOT))));
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, token.substring(0, separator)));
+        }
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equalsIgnoreCase(OPERATOR_AND) || token.equalsIgnoreCase(OPERATOR_OR)
+                || token.equalsIgnoreCase(OPERATOR_NOT);
+    }
+
+    /**
+     * Splits {@code args} into parentheses and the whitespace-separated words between them.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (char c : args.toCharArray()) {
+            boolean isParenthesis = c == '(' || c == ')';
+            if (isParenthesis || Character.isWhitespace(c)) {
+                if (word.length() > 0) {
+                    tokens.add(word.toString());
+                    word.setLength(0);
+                }
+                if (isParenthesis) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                word.append(c);
+            }
+        }
+        if (word.length() > 0) {
+            tokens.add(word.toString());
+        }
+        return tokens;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The tokens of a single query and the position of the next one to parse.
+     */
+    private static class Tokens {
+        private final List<String> tokens;
+        private int position;
+
+        Tokens(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        void skip() {
+            position++;
+        }
+
+        /**
+         * Consumes the next token if it is {@code operator}, ignoring case, and returns whether it was.
+         */
+        boolean accept(String operator) {
+            if (hasNext() && peek().equalsIgnoreCase(operator)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * The outcome of deleting a batch of persons by student id: the persons deleted, the student ids no person had,
+ * and the requested ids that are not valid student ids at all.
+ * Guarantees: immutable; every list is in the order the student ids were requested.
+ */
+public class DeletionReport {
+
+    private final List<Person> deletedPersons;
+    private final List<StudentId> missingStudentIds;
+    private final List<String> invalidStudentIds;
+
+    /**
+     * Creates a report with no invalid student ids.
+     * Every field must be present and not null.
+     */
+    public DeletionReport(List<Person> deletedPersons, List<StudentId> missingStudentIds) {
+        this(deletedPersons, missingStudentIds, List.of());
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public DeletionReport(List<Person> deletedPersons, List<StudentId> missingStudentIds,
+            List<String> invalidStudentIds) {
+        requireAllNonNull(deletedPersons, missingStudentIds, invalidStudentIds);
+        this.deletedPersons = Collections.unmodifiableList(deletedPersons);
+        this.missingStudentIds = Collections.unmodifiableList(missingStudentIds);
+        this.invalidStudentIds = Collections.unmodifiableList(invalidStudentIds);
+    }
+
+    /**
+     * Returns a copy of this report that also lists {@code invalidStudentIds}.
+     */
+    public DeletionReport withInvalidStudentIds(List<String> invalidStudentIds) {
+        return new DeletionReport(deletedPersons, missingStudentIds, invalidStudentIds);
+    }
+
+    /**
+     * Returns the persons that were removed from the contact list.
+     */
+    public List<Person> getDeletedPersons() {
+        return deletedPersons;
+    }
+
+    /**
+     * Returns the student ids that did not belong to any person in the contact list.
+     */
+    public List<StudentId> getMissingStudentIds() {
+        return missingStudentIds;
+    }
+
+    /**
+     * Returns the requested ids that are not in the student id format, so were never looked up.
+     */
+    public List<String> getInvalidStudentIds() {
+        return invalidStudentIds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeletionReport)) {
+            return false;
+        }
+
+        DeletionReport otherDeletionReport = (DeletionReport) other;
+        return deletedPersons.equals(otherDeletionReport.deletedPersons)
+                && missingStudentIds.equals(otherDeletionReport.missingStudentIds)
+                && invalidStudentIds.equals(otherDeletionReport.invalidStudentIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(deletedPersons, missingStudentIds, invalidStudentIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("deletedPersons", deletedPersons)
+                .add("missingStudentIds", missingStudentIds)
+                .add("invalidStudentIds", invalidStudentIds)
+                .toString();
+    }
+}
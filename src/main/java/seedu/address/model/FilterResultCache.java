@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers which persons the most recently used indexed filters matched, for one version of the contact list.
+ * Each result is stored as the unmodifiable list of persons that matched, in list order, keyed by the filter's
+ * predicate, so repeating a filter with an equal predicate shows the same list without looking it up again.
+ * Only {@link IndexedPredicate}s are cached, as other predicates have no meaningful equality and their matches
+ * may be most of the contact list.
+ * All results are dropped when the contact list changes, and the least recently used result is dropped once more
+ * than the capacity are stored.
+ */
+class FilterResultCache {
+
+    private final Map<IndexedPredicate, List<Person>> results = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IndexedPredicate, List<Person>> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private int capacity;
+    private long version;
+
+    /**
+     * Creates an empty cache holding at most {@code capacity} results.
+     */
+    FilterResultCache(int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Sets the maximum number of results held, dropping the least recently used results if there are more.
+     */
+    void setCapacity(int capacity) {
+        checkArgument(capacity >= 0, "Capacity cannot be negative");
+        this.capacity = capacity;
+        while (results.size() > capacity) {
+            results.remove(results.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate} in version {@code version} of the contact list, if cached.
+     */
+    Optional<List<Person>> get(IndexedPredicate predicate, long version) {
+        requireNonNull(predicate);
+        dropIfStale(version);
+        return Optional.ofNullable(results.get(predicate));
+    }
+
+    /**
+     * Stores the persons {@code matches} matched by {@code predicate} in version {@code version} of the contact list.
+     * {@code matches} must not be modified afterwards.
+     */
+    void put(IndexedPredicate predicate, long version, List<Person> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        dropIfStale(version);
+        if (capacity > 0) {
+            results.put(predicate, matches);
+        }
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    private void dropIfStale(long version) {
+        if (version != this.version) {
+            results.clear();
+            this.version = version;
+        }
+    }
+}
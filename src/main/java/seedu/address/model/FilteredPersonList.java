@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * A live view of the persons in a contact list that match a filter, in the order of the contact list.
+ * <p>
+ * Unlike a {@code FilteredList}, setting a filter does not test every person: the caller supplies the matches,
+ * typically looked up from the contact list's indexes, and the view is filled with them alone. Afterwards the view
+ * follows changes to the contact list by testing only the persons added or edited, and placing them among the
+ * matches by their order keys.
+ */
+class FilteredPersonList {
+
+    private final ObservableList<Person> source;
+    private final ToLongFunction<Person> orderKeys;
+    private final ObservableList<Person> matches = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableMatches = FXCollections.unmodifiableObservableList(matches);
+
+    private Predicate<Person> predicate = unused -> true;
+
+    /**
+     * Creates a view of every person in {@code source}, where {@code orderKeys} gives each person in {@code source}
+     * a key that sorts persons in source order.
+     */
+    FilteredPersonList(ObservableList<Person> source, ToLongFunction<Person> orderKeys) {
+        requireAllNonNull(source, orderKeys);
+        this.source = source;
+        this.orderKeys = orderKeys;
+        matches.setAll(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the matching persons.
+     */
+    ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableMatches;
+    }
+
+    /**
+     * Filters the view by {@code predicate}, showing {@code matchesInOrder}.
+     * {@code matchesInOrder} must be exactly the persons in the source that {@code predicate} matches, in source order.
+     */
+    void setFilter(Predicate<Person> predicate, List<Person> matchesInOrder) {
+        requireAllNonNull(predicate, matchesInOrder);
+        this.predicate = predicate;
+        matches.setAll(matchesInOrder);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                matches.setAll(source.stream().filter(predicate).toList());
+                continue;
+            }
+            if (change.wasRemoved()) {
+                removeMatches(change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                addMatches(change.getAddedSubList());
+            }
+        }
+    }
+
+    private void removeMatches(List<? extends Person> removed) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        Set<Person> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedSet.addAll(removed);
+        matches.removeAll(removedSet);
+    }
+
+    /**
+     * Adds the persons in {@code added} that match the filter. {@code added} is a run of consecutive persons in the
+     * source, so the matching ones all go in the same place among the matches.
+     */
+    private void addMatches(List<? extends Person> added) {
+        List<? extends Person> addedMatches = added.stream().filter(predicate).toList();
+        if (!addedMatches.isEmpty()) {
+            matches.addAll(findInsertionPosition(orderKeys.applyAsLong(addedMatches.get(0))), addedMatches);
+        }
+    }
+
+    /**
+     * Returns the position among the matches of the first match with an order key greater than {@code orderKey}.
+     */
+    private int findInsertionPosition(long orderKey) {
+        int low = 0;
+        int high = matches.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (orderKeys.applyAsLong(matches.get(middle)) < orderKey) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
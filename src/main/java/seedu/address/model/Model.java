@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.EmailId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * The API of the Model component.
@@ -52,23 +58,51 @@ public interface Model {
     /** Returns the WhoDat */
     ReadOnlyWhoDat getWhoDat();
 
+    /**
+     * Returns the mutation version of the contact list.
+     * Two calls return the same value if and only if the contact list was not modified in between.
+     */
+    long getWhoDatVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the contact list.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the contact list with the given {@code studentId}, regardless of the current filter.
+     */
+    Optional<Person> findByStudentId(StudentId studentId);
+
+    /**
+     * Returns the person in the contact list with the given {@code emailId}, regardless of the current filter.
+     */
+    Optional<Person> findByEmail(EmailId emailId);
+
     /**
      * Deletes the given person.
      * The person must exist in the contact list.
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes every person whose student id is in {@code studentIds}, with a single update to the person list.
+     * Student ids that do not belong to any person are reported instead of deleted.
+     */
+    DeletionReport deletePersons(Collection<StudentId> studentIds);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the contact list.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, with a single update to the person list.
+     * None of {@code persons} may already exist in the contact list, or share a student id or email id with another.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the contact list.
@@ -76,12 +110,42 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns true if there is a change to the contact list that can be undone.
+     */
+    boolean canUndoWhoDat();
+
+    /**
+     * Returns true if there is an undone change to the contact list that can be redone.
+     */
+    boolean canRedoWhoDat();
+
+    /**
+     * Restores the contact list to its state before the last change that has not been undone.
+     * @throws IllegalStateException if there is no change to undo.
+     */
+    void undoWhoDat();
+
+    /**
+     * Restores the contact list to its state after the last undone change.
+     * @throws IllegalStateException if there is no undone change to redo.
+     */
+    void redoWhoDat();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter stays in place as persons are added, edited and deleted; only the changed person is re-tested.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate},
+     * and orders the persons shown by {@code comparator}. Persons it ranks equally keep their order in the list.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
 }
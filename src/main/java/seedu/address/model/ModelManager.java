@@ -4,14 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.EmailId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Represents the in-memory model of the contact list data.
@@ -21,7 +31,10 @@ public class ModelManager implements Model {
 
     private final WhoDat whoDat;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final FilterResultCache filterResultCache;
+    private final WhoDatHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +46,10 @@ public class ModelManager implements Model {
 
         this.whoDat = new WhoDat(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.whoDat.getPersonList());
+        filteredPersons = new FilteredPersonList(this.whoDat.getPersonList(), this.whoDat::getOrderKey);
+        sortedPersons = new SortedList<>(filteredPersons.asUnmodifiableObservableList());
+        filterResultCache = new FilterResultCache(this.userPrefs.getFilterCacheSize());
+        history = new WhoDatHistory(this.userPrefs.getUndoHistoryDepth());
     }
 
     public ModelManager() {
@@ -46,6 +62,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        filterResultCache.setCapacity(this.userPrefs.getFilterCacheSize());
+        history.setDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -79,7 +97,8 @@ public class ModelManager implements Model {
 
     @Override
     public void setWhoDat(ReadOnlyWhoDat whoDat) {
-        this.whoDat.resetData(whoDat);
+        requireNonNull(whoDat);
+        recordChange(() -> this.whoDat.resetData(whoDat));
     }
 
     @Override
@@ -87,28 +106,111 @@ public class ModelManager implements Model {
         return whoDat;
     }
 
+    @Override
+    public long getWhoDatVersion() {
+        return whoDat.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return whoDat.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return whoDat.findByStudentId(studentId);
+    }
+
+    @Override
+    public Optional<Person> findByEmail(EmailId emailId) {
+        requireNonNull(emailId);
+        return whoDat.findByEmail(emailId);
+    }
+
     @Override
     public void deletePerson(Person target) {
-        whoDat.removePerson(target);
+        recordChange(() -> whoDat.removePerson(target));
+    }
+
+    @Override
+    public DeletionReport deletePersons(Collection<StudentId> studentIds) {
+        requireAllNonNull(studentIds);
+
+        List<Person> personsToDelete = new ArrayList<>();
+        List<StudentId> missingStudentIds = new ArrayList<>();
+        for (StudentId studentId : new LinkedHashSet<>(studentIds)) {
+            whoDat.findByStudentId(studentId).ifPresentOrElse(personsToDelete::add,
+                    () -> missingStudentIds.add(studentId));
+        }
+
+        if (!personsToDelete.isEmpty()) {
+            recordChange(() -> whoDat.removePersons(personsToDelete));
+        }
+        return new DeletionReport(personsToDelete, missingStudentIds);
     }
 
     @Override
     public void addPerson(Person person) {
-        whoDat.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        recordChange(() -> whoDat.addPerson(person));
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!persons.isEmpty()) {
+            recordChange(() -> whoDat.addPersons(persons));
+        }
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        whoDat.setPerson(target, editedPerson);
+        recordChange(() -> whoDat.setPerson(target, editedPerson));
+    }
+
+    /**
+     * Applies {@code change} to the contact list and, if it changed anything, records the state before it in the
+     * undo history. The state is a snapshot sharing the contact list's persistent person list, so recording it takes
+     * constant time.
+     */
+    private void recordChange(Runnable change) {
+        ReadOnlyWhoDat previousState = whoDat.snapshot();
+        long previousVersion = whoDat.getVersion();
+        change.run();
+        if (whoDat.getVersion() != previousVersion) {
+            history.record(previousState);
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoWhoDat() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoWhoDat() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoWhoDat() {
+        if (!history.canUndo()) {
+            throw new IllegalStateException("There is no change to undo.");
+        }
+        whoDat.restore(history.undo(whoDat.snapshot()));
+    }
+
+    @Override
+    public void redoWhoDat() {
+        if (!history.canRedo()) {
+            throw new IllegalStateException("There is no undone change to redo.");
+        }
+        whoDat.restore(history.redo(whoDat.snapshot()));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -119,13 +221,60 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * The matches of an {@link IndexedPredicate} are looked up from the contact list's indexes and placed in the
+     * filtered list directly, so only the matching persons are touched. The matches of recently used indexed
+     * predicates are cached until the contact list changes.
+     * Any other predicate is tested on every person.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setFilter(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        setFilter(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * Filters the list by {@code predicate}.
+     * The matches of an {@link IndexedPredicate} are taken from the filter result cache if an equal predicate was
+     * used on this version of the contact list, and are looked up and cached otherwise.
+     */
+    private void setFilter(Predicate<Person> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            filteredPersons.setFilter(predicate, whoDat.getPersonList().stream().filter(predicate).toList());
+            return;
+        }
+
+        IndexedPredicate indexedPredicate = (IndexedPredicate) predicate;
+        long version = whoDat.getVersion();
+        List<Person> matches = filterResultCache.get(indexedPredicate, version).orElse(null);
+        if (matches == null) {
+            matches = lookUpMatches(indexedPredicate);
+            filterResultCache.put(indexedPredicate, version, matches);
+        }
+        filteredPersons.setFilter(predicate, matches);
+    }
+
+    /**
+     * Returns the persons that {@code predicate} matches, in list order.
+     * The matches are looked up from the indexes and sorted by their order keys, which takes time in the number of
+     * matches rather than the size of the contact list.
+     */
+    private List<Person> lookUpMatches(IndexedPredicate predicate) {
+        List<Person> matches = new ArrayList<>(predicate.lookUp(whoDat));
+        matches.sort(Comparator.comparingLong(whoDat::getOrderKey));
+        return Collections.unmodifiableList(matches);
     }
 
     @Override
@@ -142,7 +291,8 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return whoDat.equals(otherModelManager.whoDat)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && filteredPersons.asUnmodifiableObservableList()
+                        .equals(otherModelManager.filteredPersons.asUnmodifiableObservableList());
     }
 
 }
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * One change made to the person list of a {@code WhoDat}, linked to the change made right after it.
+ * <p>
+ * The changes made to a contact list form a chain, and each snapshot of it remembers the last change made before
+ * it was taken, so the changes between two snapshots can be listed by following the links instead of comparing
+ * the two lists. Replacing the whole list starts a new chain, which no earlier snapshot leads to.
+ * Changes are only linked forwards, so a chain holds on to no change older than the oldest snapshot still in use.
+ */
+public final class PersonListChange {
+
+    /**
+     * The kinds of change. Indexes are positions in the list as it was just before the change.
+     */
+    public enum Type {
+        /** Starts a chain; the list is whatever it was set to. */
+        START,
+        /** Appends the person to the end of the list. */
+        APPEND,
+        /** Inserts the person at the index, shifting the persons from there on back by one. */
+        INSERT,
+        /** Replaces the person at the index with the person. */
+        SET,
+        /** Removes the person at the index. */
+        REMOVE
+    }
+
+    private final Type type;
+    private final int index;
+    private final Person person;
+    private final AtomicReference<PersonListChange> next = new AtomicReference<>();
+
+    private PersonListChange(Type type, int index, Person person) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+    }
+
+    static PersonListChange start() {
+        return new PersonListChange(Type.START, -1, null);
+    }
+
+    static PersonListChange append(Person person) {
+        requireNonNull(person);
+        return new PersonListChange(Type.APPEND, -1, person);
+    }
+
+    static PersonListChange insert(int index, Person person) {
+        requireNonNull(person);
+        return new PersonListChange(Type.INSERT, index, person);
+    }
+
+    static PersonListChange set(int index, Person person) {
+        requireNonNull(person);
+        return new PersonListChange(Type.SET, index, person);
+    }
+
+    static PersonListChange remove(int index) {
+        return new PersonListChange(Type.REMOVE, index, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index changed, or -1 for a change with no index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the person added or set, or null for a change with no person.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Links {@code change} as the change made right after this one, unless another change already follows this one.
+     * Two contact lists reset from the same snapshot both continue from its last change, and only the first to
+     * change again may extend the chain.
+     *
+     * @return true if {@code change} was linked; otherwise it is left to start a chain of its own.
+     */
+    boolean link(PersonListChange change) {
+        return next.compareAndSet(null, change);
+    }
+
+    /**
+     * Returns the changes made after this one up to and including {@code last}, in the order they were made, or an
+     * empty Optional if {@code last} does not follow this change in its chain.
+     */
+    Optional<List<PersonListChange>> getChangesUpTo(PersonListChange last) {
+        requireNonNull(last);
+        List<PersonListChange> changes = new ArrayList<>();
+        PersonListChange change = this;
+        while (change != last) {
+            change = change.next.get();
+            if (change == null) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        return Optional.of(changes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("index", index)
+                .add("person", person)
+                .toString();
+    }
+}
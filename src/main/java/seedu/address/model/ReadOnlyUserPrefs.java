@@ -13,4 +13,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getWhoDatFilePath();
 
+    /**
+     * Returns the maximum number of filter results remembered, so that repeating a recent filter is instant.
+     */
+    int getFilterCacheSize();
+
+    /**
+     * Returns the maximum number of changes to the contact list that can be undone.
+     */
+    int getUndoHistoryDepth();
+
 }
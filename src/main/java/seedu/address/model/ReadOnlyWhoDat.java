@@ -1,7 +1,20 @@
 package seedu.address.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.index.CompletionTrie;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Unmodifiable view of an WhoDat
@@ -14,4 +27,90 @@ public interface ReadOnlyWhoDat {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the persons as they are now, unaffected by later changes and safe to read from any thread.
+     * Implementations that keep their persons in a persistent list should share it; by default the list is copied.
+     */
+    default ReadOnlyWhoDat snapshot() {
+        return new WhoDatSnapshot(List.copyOf(getPersonList()));
+    }
+
+    /**
+     * Returns the person with the given {@code studentId}, if any.
+     * Implementations that keep a student id index should answer from it; by default every person is tested.
+     */
+    default Optional<Person> findByStudentId(StudentId studentId) {
+        return getPersonList().stream()
+                .filter(person -> person.getStudentId().equals(studentId))
+                .findFirst();
+    }
+
+    /**
+     * Returns the persons that have {@code tag}, ignoring case.
+     * Implementations that keep a tag index should answer from it; by default every person is tested.
+     */
+    default Collection<Person> getPersonsWithTag(Tag tag) {
+        return getPersonList().stream()
+                .filter(new StudentHasSameTagPredicate(tag))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of persons that have {@code tag}, ignoring case.
+     * Implementations that keep a tag index should count from it; by default the persons are collected first.
+     */
+    default int countPersonsWithTag(Tag tag) {
+        return getPersonsWithTag(tag).size();
+    }
+
+    /**
+     * Returns a tag index over the persons, whose tag bitmaps can be combined to find the persons with and without
+     * several tags at once.
+     * Implementations that keep a tag index should return it; by default one is built on every call.
+     */
+    default TagIndex getTagIndex() {
+        return TagIndex.of(getPersonList());
+    }
+
+    /**
+     * Returns the persons in the class {@code classId}, ignoring case.
+     * Implementations that keep a class index should answer from it; by default every person is tested.
+     */
+    default Collection<Person> getPersonsInClass(ClassId classId) {
+        return getPersonList().stream()
+                .filter(new StudentHasSameClassIdPredicate(classId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the persons whose names contain the word {@code token}, ignoring case.
+     * Implementations that keep a name index should answer from it; by default every person is tested.
+     */
+    default Collection<Person> getPersonsWithNameToken(String token) {
+        return getPersonList().stream()
+                .filter(new NameContainsKeywordsPredicate(List.of(token)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the persons that may have a word in their name within {@code maxDistance} edits of {@code word},
+     * ignoring case. Every such person is included, but so may others be, so callers must check each one.
+     * Implementations that keep a name trigram index should narrow the candidates with it; by default everyone is
+     * a candidate.
+     */
+    default Collection<Person> getFuzzyNameCandidates(String word, int maxDistance) {
+        return getPersonList();
+    }
+
+    /**
+     * Returns at most {@code limit} words from persons' names, student ids, class ids and tags that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     * Implementations that keep a completion index should answer from it; by default one is built on every call.
+     */
+    default List<String> getCompletions(String prefix, int limit) {
+        CompletionTrie completionTrie = new CompletionTrie();
+        getPersonList().forEach(completionTrie::add);
+        return completionTrie.complete(prefix, limit);
+    }
+
 }
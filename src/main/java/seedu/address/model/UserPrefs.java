@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_FILTER_CACHE_SIZE = 16;
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path whoDatFilePath = Paths.get("data" , "whodat.json");
+    private int filterCacheSize = DEFAULT_FILTER_CACHE_SIZE;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setWhoDatFilePath(newUserPrefs.getWhoDatFilePath());
+        setFilterCacheSize(newUserPrefs.getFilterCacheSize());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.whoDatFilePath = whoDatFilePath;
     }
 
+    public int getFilterCacheSize() {
+        return filterCacheSize;
+    }
+
+    public void setFilterCacheSize(int filterCacheSize) {
+        checkArgument(filterCacheSize >= 0, "Filter cache size cannot be negative");
+        this.filterCacheSize = filterCacheSize;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth cannot be negative");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && whoDatFilePath.equals(otherUserPrefs.whoDatFilePath);
+                && whoDatFilePath.equals(otherUserPrefs.whoDatFilePath)
+                && filterCacheSize == otherUserPrefs.filterCacheSize
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, whoDatFilePath);
+        return Objects.hash(guiSettings, whoDatFilePath, filterCacheSize, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +110,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + whoDatFilePath);
+        sb.append("\nFilter cache size : " + filterCacheSize);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -2,12 +2,31 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.ClassIdIndex;
+import seedu.address.model.index.CompletionTrie;
+import seedu.address.model.index.NameTokenIndex;
+import seedu.address.model.index.NameTrigramIndex;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.EmailId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -15,7 +34,39 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class WhoDat implements ReadOnlyWhoDat {
 
+    /**
+     * The most persons {@link #restore} inserts between others, one at a time. Each insertion shifts the rest of the
+     * list, so a state needing more insertions replaces the whole list instead.
+     */
+    private static final int MAX_RESTORED_INSERTIONS = 1000;
+
     private final UniquePersonList persons;
+    private final TagIndex tagIndex;
+    private final ClassIdIndex classIdIndex;
+    private final NameTokenIndex nameTokenIndex;
+    private final NameTrigramIndex nameTrigramIndex;
+    private final List<PersonIndex> indexes;
+
+    /**
+     * Read from other threads. It is replaced rather than cleared and refilled when the whole list is replaced,
+     * so lookups never see it half-built.
+     */
+    private volatile CompletionTrie completionTrie = new CompletionTrie();
+
+    /** Incremented on every successful mutation, so callers can tell whether the data has changed. */
+    private long version;
+
+    /** The persons in the same order as {@code persons}, kept in a persistent list so snapshots can share it. */
+    private PersistentList<Person> snapshotPersons = PersistentList.empty();
+
+    /** The last change recorded to the person list, which the changes made from now on are linked after. */
+    private PersonListChange lastChange = PersonListChange.start();
+
+    /**
+     * A snapshot of the persons and the last change made to them, replaced after every mutation so that readers on
+     * other threads always see the two together.
+     */
+    private volatile WhoDatSnapshot latestSnapshot = new WhoDatSnapshot(snapshotPersons, lastChange);
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +77,11 @@ public class WhoDat implements ReadOnlyWhoDat {
      */
     {
         persons = new UniquePersonList();
+        tagIndex = new TagIndex();
+        classIdIndex = new ClassIdIndex();
+        nameTokenIndex = new NameTokenIndex();
+        nameTrigramIndex = new NameTrigramIndex();
+        indexes = List.of(tagIndex, classIdIndex, nameTokenIndex, nameTrigramIndex);
     }
 
     public WhoDat() {}
@@ -43,18 +99,101 @@ public class WhoDat implements ReadOnlyWhoDat {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: uniqueness is validated in one pass and the list is replaced at once.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
+        setPersons(persons, PersonListChange.start());
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, which are the persons as of {@code lastChange}.
+     */
+    private void setPersons(List<Person> persons, PersonListChange lastChange) {
         this.persons.setPersons(persons);
+        indexes.forEach(PersonIndex::clear);
+        this.persons.asUnmodifiableObservableList().forEach(person -> indexes.forEach(index -> index.add(person)));
+        completionTrie = CompletionTrie.of(this.persons.asUnmodifiableObservableList());
+        snapshotPersons = persons instanceof PersistentList
+                ? (PersistentList<Person>) persons
+                : PersistentList.copyOf(this.persons.asUnmodifiableObservableList());
+        this.lastChange = lastChange;
+        publishSnapshot();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Resetting to a snapshot of a {@code WhoDat}, or to a {@code WhoDat} itself, shares its persistent list instead
+     * of copying it, and carries on its chain of changes, so the changes made from now on can be listed from any
+     * snapshot taken of {@code newData} up to now.
      */
     public void resetData(ReadOnlyWhoDat newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        ReadOnlyWhoDat data = newData instanceof WhoDat ? newData.snapshot() : newData;
+        if (data instanceof WhoDatSnapshot) {
+            WhoDatSnapshot snapshot = (WhoDatSnapshot) data;
+            setPersons(snapshot.getSource(), snapshot.getLastChange().orElseGet(PersonListChange::start));
+        } else {
+            setPersons(data.getPersonList());
+        }
+    }
+
+    /**
+     * Replaces the contents of this {@code WhoDat} with {@code state}, an earlier snapshot of it such as one being
+     * undone or redone.
+     * Snapshots share their unchanged persons, so the two lists are compared by identity, and only the persons
+     * replaced, removed or inserted are changed in the list and the indexes. Any view of the list is then updated
+     * for those persons alone. If the persons were reordered, or too many must be inserted between others, the
+     * whole list is replaced as by {@link #resetData} instead.
+     * Either way the changes made are recorded, so they can be listed from an earlier snapshot.
+     */
+    public void restore(ReadOnlyWhoDat state) {
+        requireNonNull(state);
+        if (!(state instanceof WhoDatSnapshot)) {
+            resetData(state);
+            return;
+        }
+
+        List<Person> newPersons = ((WhoDatSnapshot) state).getSource();
+        PersonListChanges changes = PersonListChanges.between(persons.asUnmodifiableObservableList(), newPersons);
+        if (changes == null || changes.inserted.size() > MAX_RESTORED_INSERTIONS) {
+            resetData(state);
+            return;
+        }
+
+        try {
+            int[] removedPositions = persons.removeAll(changes.removed);
+            changes.removed.forEach(this::removeFromIndexes);
+            for (int i = removedPositions.length - 1; i >= 0; i--) {
+                recordChange(PersonListChange.remove(removedPositions[i]));
+            }
+            for (int i = 0; i < changes.targets.size(); i++) {
+                int index = persons.setPerson(changes.targets.get(i), changes.replacements.get(i));
+                removeFromIndexes(changes.targets.get(i));
+                addToIndexes(changes.replacements.get(i));
+                recordChange(PersonListChange.set(index, changes.replacements.get(i)));
+            }
+            for (int i = 0; i < changes.inserted.size(); i++) {
+                persons.add(changes.insertedPositions.get(i), changes.inserted.get(i));
+                addToIndexes(changes.inserted.get(i));
+                recordChange(PersonListChange.insert(changes.insertedPositions.get(i), changes.inserted.get(i)));
+            }
+            persons.addAll(changes.appended);
+            for (Person person : changes.appended) {
+                addToIndexes(person);
+                recordChange(PersonListChange.append(person));
+            }
+        } catch (DuplicatePersonException dpe) {
+            // a replacement clashed with a person that was about to be replaced too
+            resetData(state);
+            return;
+        }
+        snapshotPersons = newPersons instanceof PersistentList
+                ? (PersistentList<Person>) newPersons
+                : PersistentList.copyOf(persons.asUnmodifiableObservableList());
+        publishSnapshot();
     }
 
     //// person-level operations
@@ -67,12 +206,55 @@ public class WhoDat implements ReadOnlyWhoDat {
         return persons.contains(person);
     }
 
+    @Override
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        return persons.getByStudentId(studentId);
+    }
+
+    /**
+     * Returns the person with the given {@code emailId}, if any.
+     */
+    public Optional<Person> findByEmail(EmailId emailId) {
+        return persons.getByEmailId(emailId);
+    }
+
+    /**
+     * Returns the order key of {@code person}, which must be in the contact list.
+     * Sorting persons by their order keys puts them in list order.
+     */
+    public long getOrderKey(Person person) {
+        requireNonNull(person);
+        return persons.getOrderKey(person);
+    }
+
     /**
      * Adds a person to the contact list.
      * The person must not already exist in the contact list.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToIndexes(p);
+        snapshotPersons = snapshotPersons.plus(p);
+        recordChange(PersonListChange.append(p));
+        publishSnapshot();
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the contact list at once.
+     * None of the persons may already exist in the contact list, or share a student id or email id with another.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair if any person is not unique.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        PersistentList<Person> newSnapshotPersons = snapshotPersons;
+        for (Person person : toAdd) {
+            addToIndexes(person);
+            newSnapshotPersons = newSnapshotPersons.plus(person);
+            recordChange(PersonListChange.append(person));
+        }
+        snapshotPersons = newSnapshotPersons;
+        publishSnapshot();
     }
 
     /**
@@ -83,7 +265,12 @@ public class WhoDat implements ReadOnlyWhoDat {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
+        snapshotPersons = snapshotPersons.with(index, editedPerson);
+        recordChange(PersonListChange.set(index, editedPerson));
+        publishSnapshot();
     }
 
     /**
@@ -91,11 +278,77 @@ public class WhoDat implements ReadOnlyWhoDat {
      * {@code key} must exist in the contact list.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        removeFromIndexes(key);
+        snapshotPersons = snapshotPersons.minus(index);
+        recordChange(PersonListChange.remove(index));
+        publishSnapshot();
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code WhoDat} at once.
+     * Every key must exist in the contact list.
+     */
+    public void removePersons(Collection<Person> keys) {
+        int[] positions = persons.removeAll(keys);
+        keys.forEach(this::removeFromIndexes);
+        PersistentList<Person> newSnapshotPersons = snapshotPersons;
+        for (int i = positions.length - 1; i >= 0; i--) {
+            newSnapshotPersons = newSnapshotPersons.minus(positions[i]);
+            recordChange(PersonListChange.remove(positions[i]));
+        }
+        snapshotPersons = newSnapshotPersons;
+        publishSnapshot();
+    }
+
+    /**
+     * Records {@code change}, which has just been made to the person list, after the last change recorded.
+     */
+    private void recordChange(PersonListChange change) {
+        // if another contact list reset from the same snapshot got there first, the change starts a chain of its own
+        lastChange.link(change);
+        lastChange = change;
+    }
+
+    /**
+     * Publishes the persons and the last change as the latest snapshot once a mutation is complete.
+     */
+    private void publishSnapshot() {
+        latestSnapshot = new WhoDatSnapshot(snapshotPersons, lastChange);
+        version++;
+    }
+
+    private void addToIndexes(Person person) {
+        indexes.forEach(index -> index.add(person));
+        completionTrie.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        indexes.forEach(index -> index.remove(person));
+        completionTrie.remove(person);
     }
 
     //// util methods
 
+    /**
+     * Returns the mutation version of this {@code WhoDat}.
+     * The version changes whenever the person list is modified and never otherwise.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * {@inheritDoc}
+     * This takes constant time, as the snapshot shares the persistent list this {@code WhoDat} keeps up to date,
+     * and may be called from a thread other than the one modifying the data.
+     * The snapshot also remembers the last change made, so the changes made after it can be listed later.
+     */
+    @Override
+    public ReadOnlyWhoDat snapshot() {
+        return latestSnapshot;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -108,6 +361,55 @@ public class WhoDat implements ReadOnlyWhoDat {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Collection<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.countPersonsWithTag(tag);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The returned index is kept up to date with this {@code WhoDat} and must not be modified.
+     */
+    @Override
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    @Override
+    public Collection<Person> getPersonsInClass(ClassId classId) {
+        requireNonNull(classId);
+        return classIdIndex.getPersonsInClass(classId);
+    }
+
+    @Override
+    public Collection<Person> getPersonsWithNameToken(String token) {
+        requireNonNull(token);
+        return nameTokenIndex.getPersonsWithNameToken(token);
+    }
+
+    @Override
+    public Collection<Person> getFuzzyNameCandidates(String word, int maxDistance) {
+        requireNonNull(word);
+        return nameTrigramIndex.getCandidates(word, maxDistance).orElse(getPersonList());
+    }
+
+    /**
+     * {@inheritDoc}
+     * This may be called from a thread other than the one modifying the data.
+     */
+    @Override
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return completionTrie.complete(prefix, limit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -127,4 +429,77 @@ public class WhoDat implements ReadOnlyWhoDat {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * The persons that differ between two lists, where persons are immutable and so an unchanged person is
+     * recognised by identity.
+     */
+    private static class PersonListChanges {
+        /** Persons of the old list that are not in the new list. */
+        private final List<Person> removed = new ArrayList<>();
+        /** Persons of the old list replaced in place by the person at the same index of {@code replacements}. */
+        private final List<Person> targets = new ArrayList<>();
+        private final List<Person> replacements = new ArrayList<>();
+        /** Persons of the new list that come before some person kept from the old list, and their positions. */
+        private final List<Person> inserted = new ArrayList<>();
+        private final List<Integer> insertedPositions = new ArrayList<>();
+        /** Persons of the new list that come after every person kept from the old list. */
+        private final List<Person> appended = new ArrayList<>();
+
+        /**
+         * Returns the changes that turn {@code oldPersons} into {@code newPersons}, or null if the persons kept
+         * from {@code oldPersons} are in a different order.
+         * Applying the removals, then the replacements, then the insertions in order, then the appends, gives
+         * {@code newPersons}.
+         */
+        static PersonListChanges between(List<Person> oldPersons, List<Person> newPersons) {
+            Set<Person> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            oldSet.addAll(oldPersons);
+            Set<Person> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            newSet.addAll(newPersons);
+
+            PersonListChanges changes = new PersonListChanges();
+            Iterator<Person> oldIterator = oldPersons.iterator();
+            Iterator<Person> newIterator = newPersons.iterator();
+            Person oldPerson = oldIterator.hasNext() ? oldIterator.next() : null;
+            Person newPerson = newIterator.hasNext() ? newIterator.next() : null;
+            int newPosition = 0;
+            while (oldPerson != null && newPerson != null) {
+                boolean isOldKept = newSet.contains(oldPerson);
+                boolean isNewAdded = !oldSet.contains(newPerson);
+                if (oldPerson == newPerson || (!isOldKept && isNewAdded)) {
+                    if (oldPerson != newPerson) {
+                        changes.targets.add(oldPerson);
+                        changes.replacements.add(newPerson);
+                    }
+                    oldPerson = oldIterator.hasNext() ? oldIterator.next() : null;
+                    newPerson = newIterator.hasNext() ? newIterator.next() : null;
+                    newPosition++;
+                } else if (!isOldKept) {
+                    changes.removed.add(oldPerson);
+                    oldPerson = oldIterator.hasNext() ? oldIterator.next() : null;
+                } else if (isNewAdded) {
+                    changes.inserted.add(newPerson);
+                    changes.insertedPositions.add(newPosition);
+                    newPerson = newIterator.hasNext() ? newIterator.next() : null;
+                    newPosition++;
+                } else {
+                    return null;
+                }
+            }
+            for (; oldPerson != null; oldPerson = oldIterator.hasNext() ? oldIterator.next() : null) {
+                if (newSet.contains(oldPerson)) {
+                    return null;
+                }
+                changes.removed.add(oldPerson);
+            }
+            for (; newPerson != null; newPerson = newIterator.hasNext() ? newIterator.next() : null) {
+                if (oldSet.contains(newPerson)) {
+                    return null;
+                }
+                changes.appended.add(newPerson);
+            }
+            return changes;
+        }
+    }
 }
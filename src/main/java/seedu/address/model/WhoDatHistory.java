@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Remembers earlier and undone states of the contact list, so that changes can be undone and redone.
+ * Each state is a snapshot of the contact list. Snapshots of the same contact list share the persons they have in
+ * common, so a state only costs memory for what changed since its neighbour.
+ * The oldest states are dropped once more than the depth are remembered.
+ */
+class WhoDatHistory {
+
+    private final Deque<ReadOnlyWhoDat> undoStates = new ArrayDeque<>();
+    private final Deque<ReadOnlyWhoDat> redoStates = new ArrayDeque<>();
+
+    private int depth;
+
+    /**
+     * Creates an empty history remembering at most {@code depth} states to undo.
+     */
+    WhoDatHistory(int depth) {
+        setDepth(depth);
+    }
+
+    /**
+     * Sets the maximum number of states remembered, dropping the oldest states if there are more.
+     */
+    void setDepth(int depth) {
+        checkArgument(depth >= 0, "Depth cannot be negative");
+        this.depth = depth;
+        while (undoStates.size() > depth) {
+            undoStates.removeLast();
+        }
+        while (redoStates.size() > depth) {
+            redoStates.removeLast();
+        }
+    }
+
+    /**
+     * Records {@code previousState} as the state before a change. The undone states can no longer be redone.
+     */
+    void record(ReadOnlyWhoDat previousState) {
+        requireNonNull(previousState);
+        redoStates.clear();
+        push(undoStates, previousState);
+    }
+
+    boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Returns the state before the last change, remembering {@code currentState} to be redone.
+     * There must be a state to undo.
+     */
+    ReadOnlyWhoDat undo(ReadOnlyWhoDat currentState) {
+        requireNonNull(currentState);
+        assert canUndo() : "There must be a state to undo.";
+        push(redoStates, currentState);
+        return undoStates.removeFirst();
+    }
+
+    /**
+     * Returns the state after the last undone change, remembering {@code currentState} to be undone.
+     * There must be a state to redo.
+     */
+    ReadOnlyWhoDat redo(ReadOnlyWhoDat currentState) {
+        requireNonNull(currentState);
+        assert canRedo() : "There must be a state to redo.";
+        push(undoStates, currentState);
+        return redoStates.removeFirst();
+    }
+
+    private void push(Deque<ReadOnlyWhoDat> states, ReadOnlyWhoDat state) {
+        if (depth == 0) {
+            return;
+        }
+        states.addFirst(state);
+        if (states.size() > depth) {
+            states.removeLast();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of a contact list at one point in time.
+ * The person list of a snapshot never changes, so it can be read from any thread while the contact list it was
+ * taken from goes on changing.
+ */
+public class WhoDatSnapshot implements ReadOnlyWhoDat {
+
+    private final List<Person> source;
+    private final ObservableList<Person> persons;
+
+    /** The last change made to the contact list before this snapshot, or null if it was not taken from a WhoDat. */
+    private final PersonListChange lastChange;
+
+    /**
+     * Creates a snapshot of {@code persons}, which must never be modified.
+     */
+    WhoDatSnapshot(List<Person> persons) {
+        this(persons, null);
+    }
+
+    /**
+     * Creates a snapshot of {@code persons}, which must never be modified, taken right after {@code lastChange}.
+     */
+    WhoDatSnapshot(List<Person> persons, PersonListChange lastChange) {
+        requireNonNull(persons);
+        this.source = persons;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.lastChange = lastChange;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the list this snapshot was created from, so a contact list restored from it can share it.
+     */
+    List<Person> getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the last change made to the contact list before this snapshot was taken, if it was taken from one.
+     */
+    Optional<PersonListChange> getLastChange() {
+        return Optional.ofNullable(lastChange);
+    }
+
+    /**
+     * Returns the changes that turn the persons of {@code earlier} into the persons of this snapshot, in the order
+     * they were made, or an empty Optional if this snapshot was not taken from the same contact list after
+     * {@code earlier} with no replacement of the whole list in between.
+     * This takes time in proportion to the number of changes, not the number of persons.
+     */
+    public Optional<List<PersonListChange>> getChangesSince(WhoDatSnapshot earlier) {
+        requireNonNull(earlier);
+        if (lastChange == null || earlier.lastChange == null) {
+            return Optional.empty();
+        }
+        return earlier.lastChange.getChangesUpTo(lastChange);
+    }
+
+    @Override
+    public ReadOnlyWhoDat snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each class id, ignoring case, to the persons in that class, in the order they were indexed.
+ */
+public class ClassIdIndex implements PersonIndex {
+
+    private final Map<String, Set<Person>> personsByClassId = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByClassId.computeIfAbsent(normalize(person.getClassId()), unused -> new LinkedHashSet<>())
+                .add(person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = normalize(person.getClassId());
+        Set<Person> persons = personsByClassId.get(key);
+        if (persons != null) {
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByClassId.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByClassId.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the class {@code classId}, ignoring case.
+     */
+    public Set<Person> getPersonsInClass(ClassId classId) {
+        requireNonNull(classId);
+        Set<Person> persons = personsByClassId.get(normalize(classId));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the key {@code classId} is indexed under, which is the same for class ids that differ only in case.
+     * The key does not depend on the default locale.
+     */
+    public static String normalize(ClassId classId) {
+        return classId.value.toLowerCase(Locale.ROOT);
+    }
+}
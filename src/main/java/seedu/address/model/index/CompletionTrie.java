@@ -0,0 +1,190 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A compressed prefix tree over the words of persons' names, their student ids, class ids and tags,
+ * used to suggest completions for partially typed words.
+ * Matching ignores case, but completions keep the case they were entered with.
+ * Lookups may run on a different thread from updates.
+ * Names are split into words by {@link NameTokenIndex#splitWords}, so completions are the words {@code find} matches.
+ */
+public class CompletionTrie implements PersonIndex {
+
+    private final Node root = new Node("");
+
+    /**
+     * A node of the trie. {@code label} is the part of the key between the parent and this node,
+     * and {@code terms} counts how many indexed persons each completion ending here came from.
+     */
+    private static class Node {
+        private String label;
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final TreeMap<String, Integer> terms = new TreeMap<>();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Returns a completion trie of {@code persons}.
+     */
+    public static CompletionTrie of(Collection<Person> persons) {
+        CompletionTrie completionTrie = new CompletionTrie();
+        persons.forEach(completionTrie::add);
+        return completionTrie;
+    }
+
+    @Override
+    public synchronized void add(Person person) {
+        requireNonNull(person);
+        for (String term : getTerms(person)) {
+            insert(term.toLowerCase(Locale.ROOT), term);
+        }
+    }
+
+    @Override
+    public synchronized void remove(Person person) {
+        requireNonNull(person);
+        for (String term : getTerms(person)) {
+            remove(root, term.toLowerCase(Locale.ROOT), 0, term);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        root.children.clear();
+        root.terms.clear();
+    }
+
+    /**
+     * Returns at most {@code limit} completions starting with {@code prefix}, ignoring case, in alphabetical order.
+     * An empty prefix has no completions.
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = prefix.toLowerCase(Locale.ROOT);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                return Collections.emptyList();
+            }
+            int common = commonPrefixLength(child.label, key, matched);
+            if (matched + common < key.length() && common < child.label.length()) {
+                return Collections.emptyList();
+            }
+            node = child;
+            matched += common;
+        }
+
+        List<String> completions = new ArrayList<>();
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    private void insert(String key, String term) {
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                child = new Node(key.substring(matched));
+                node.children.put(key.charAt(matched), child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+            node = child;
+            matched += common;
+        }
+        node.terms.merge(term, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code term} from below {@code node}, where {@code key} is matched up to
+     * {@code matched}, and merges or drops nodes left without completions.
+     */
+    private void remove(Node node, String key, int matched, String term) {
+        if (matched == key.length()) {
+            node.terms.computeIfPresent(term, (unused, count) -> count == 1 ? null : count - 1);
+            return;
+        }
+
+        char first = key.charAt(matched);
+        Node child = node.children.get(first);
+        if (child == null || !key.startsWith(child.label, matched)) {
+            return;
+        }
+        remove(child, key, matched + child.label.length(), term);
+
+        if (!child.terms.isEmpty()) {
+            return;
+        }
+        if (child.children.isEmpty()) {
+            node.children.remove(first);
+        } else if (child.children.size() == 1) {
+            Node grandchild = child.children.firstEntry().getValue();
+            grandchild.label = child.label + grandchild.label;
+            node.children.put(first, grandchild);
+        }
+    }
+
+    private static void collect(Node node, int limit, List<String> completions) {
+        for (String term : node.terms.keySet()) {
+            if (completions.size() == limit) {
+                return;
+            }
+            completions.add(term);
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (completions.size() == limit) {
+                return;
+            }
+            collect(child.getValue(), limit, completions);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static List<String> getTerms(Person person) {
+        List<String> terms = NameTokenIndex.splitWords(person.getName().fullName);
+        terms.add(person.getStudentId().getValue());
+        terms.add(person.getClassId().value);
+        for (Tag tag : person.getTags()) {
+            terms.add(tag.tagName);
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model.index;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} whose matches can be looked up from the indexes of a {@code ReadOnlyWhoDat}
+ * instead of testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns exactly the persons in {@code whoDat} for which {@link #test(Object)} returns true.
+     */
+    Collection<Person> lookUp(ReadOnlyWhoDat whoDat);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #lookUp} returns, taken from the sizes the indexes of
+     * {@code whoDat} keep, without collecting the persons.
+     * By default every person may match.
+     */
+    default int estimateMatchCount(ReadOnlyWhoDat whoDat) {
+        return whoDat.getPersonList().size();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each word of a person's name, ignoring case, to the persons whose names contain that word.
+ */
+public class NameTokenIndex implements PersonIndex {
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            personsByToken.computeIfAbsent(token, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons != null) {
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    personsByToken.remove(token);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByToken.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose names contain the word {@code token}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameToken(String token) {
+        requireNonNull(token);
+        Set<Person> persons = personsByToken.get(token.toLowerCase(Locale.ROOT));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Splits {@code text} into lower-cased words separated by whitespace.
+     * Words are lower-cased the same way whatever the default locale, so every caller gets the same tokens.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = splitWords(text);
+        tokens.replaceAll(word -> word.toLowerCase(Locale.ROOT));
+        return tokens;
+    }
+
+    /**
+     * Splits {@code text} into the same words as {@link #tokenize}, but keeping their case.
+     */
+    public static List<String> splitWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isSeparator = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isSeparator && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            } else if (!isSeparator && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each trigram of the words of a person's name, ignoring case, to the persons whose names contain it.
+ * Words are padded with two {@code $} on each side, so a word of length n has n + 2 trigrams.
+ * Used to find persons whose names contain a word within a small edit distance of a misspelt keyword.
+ */
+public class NameTrigramIndex implements PersonIndex {
+
+    private static final String PADDING = "$$";
+
+    private final Map<String, Set<Person>> personsByTrigram = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : NameTokenIndex.tokenize(person.getName().fullName)) {
+            for (String trigram : getTrigrams(word)) {
+                personsByTrigram.computeIfAbsent(trigram, unused -> new LinkedHashSet<>()).add(person);
+            }
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : NameTokenIndex.tokenize(person.getName().fullName)) {
+            for (String trigram : getTrigrams(word)) {
+                Set<Person> persons = personsByTrigram.get(trigram);
+                if (persons != null) {
+                    persons.remove(person);
+                    if (persons.isEmpty()) {
+                        personsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByTrigram.clear();
+    }
+
+    /**
+     * Returns the persons that may have a word in their name within {@code maxDistance} edits of {@code word},
+     * ignoring case. Every such person is included, along with some that are not, so callers must check each one.
+     * A word within {@code maxDistance} edits shares all but at most {@code 3 * maxDistance} of the trigrams of
+     * {@code word}; if that leaves no trigram to look for, the index cannot narrow the search and an empty
+     * {@code Optional} is returned.
+     */
+    public Optional<Collection<Person>> getCandidates(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<String> trigrams = getTrigrams(word.toLowerCase(Locale.ROOT));
+        int minSharedTrigrams = trigrams.size() - 3 * maxDistance;
+        if (minSharedTrigrams <= 0) {
+            return Optional.empty();
+        }
+
+        Map<Person, Integer> sharedTrigramCounts = new IdentityHashMap<>();
+        for (String trigram : trigrams) {
+            for (Person person : personsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigramCounts.merge(person, 1, Integer::sum);
+            }
+        }
+
+        List<Person> candidates = new ArrayList<>();
+        sharedTrigramCounts.forEach((person, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(person);
+            }
+        });
+        return Optional.of(candidates);
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A secondary index over the persons of a {@code WhoDat}.
+ * {@code WhoDat} keeps every index up to date as persons are added, edited and removed.
+ */
+public interface PersonIndex {
+
+    /**
+     * Indexes {@code person}, which has just been added to the contact list.
+     */
+    void add(Person person);
+
+    /**
+     * Forgets {@code person}, which has just been removed from the contact list.
+     */
+    void remove(Person person);
+
+    /**
+     * Forgets every person.
+     */
+    void clear();
+}
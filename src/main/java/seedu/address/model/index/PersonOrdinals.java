@@ -0,0 +1,72 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Gives each indexed person a small non-negative int, its ordinal, that does not change while the person is indexed.
+ * Ordinals of removed persons are handed out again, most recently freed first, so a person replaced by an edited
+ * copy (removed, then the copy added) keeps the same ordinal and ordinals stay dense.
+ */
+class PersonOrdinals {
+
+    private final Map<Person, Integer> ordinalsByPerson = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * Returns the ordinal of {@code person}, giving it one if it has none yet.
+     */
+    int add(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsByPerson.get(person);
+        if (ordinal != null) {
+            return ordinal;
+        }
+
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinalsByPerson.put(person, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Frees the ordinal of {@code person} and returns it, or returns -1 if {@code person} has none.
+     */
+    int remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsByPerson.remove(person);
+        if (ordinal == null) {
+            return -1;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        return ordinal;
+    }
+
+    void clear() {
+        ordinalsByPerson.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+    }
+
+    /**
+     * Returns the person with {@code ordinal}, or null if no person has it.
+     */
+    Person getPerson(int ordinal) {
+        return ordinal < personsByOrdinal.size() ? personsByOrdinal.get(ordinal) : null;
+    }
+}
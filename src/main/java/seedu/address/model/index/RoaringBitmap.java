@@ -0,0 +1,444 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A compressed set of non-negative ints, laid out like a Roaring bitmap.
+ * Values are grouped into chunks by their high 16 bits. A chunk holds the low 16 bits of its values in a sorted
+ * array while it has at most {@value #MAX_ARRAY_SIZE} values, and in a fixed 8 KiB bitmap once it has more, so both
+ * sparse and dense sets stay small. {@link #and}, {@link #or} and {@link #andNot} work a chunk at a time and return
+ * new bitmaps.
+ * Only the indexes in this package modify bitmaps; bitmaps handed out by them must not be kept across changes to
+ * the contact list.
+ */
+public class RoaringBitmap {
+
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int WORDS_PER_CHUNK = (1 << 16) / Long.SIZE;
+
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Returns a bitmap holding {@code values}.
+     */
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}, which must not be negative.
+     */
+    void add(int value) {
+        checkArgument(value >= 0, "Bitmap values cannot be negative");
+        char key = (char) (value >>> 16);
+        int position = findChunk(key);
+        if (position < 0) {
+            position = -position - 1;
+            insertChunk(position, key, new Chunk());
+        }
+        chunks[position].add((char) value);
+    }
+
+    /**
+     * Removes {@code value}, if present.
+     */
+    void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int position = findChunk((char) (value >>> 16));
+        if (position >= 0) {
+            chunks[position].remove((char) value);
+            if (chunks[position].cardinality == 0) {
+                removeChunk(position);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code value} is in this bitmap.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findChunk((char) (value >>> 16));
+        return position >= 0 && chunks[position].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in this bitmap.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Returns the values in both this bitmap and {@code other}.
+     */
+    public RoaringBitmap and(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(keys[i], Chunk.and(chunks[i], other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in this bitmap, {@code other}, or both.
+     */
+    public RoaringBitmap or(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], Chunk.or(chunks[i], other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in this bitmap that are not in {@code other}.
+     */
+    public RoaringBitmap andNot(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.chunkCount && other.keys[j] == keys[i]) {
+                result.appendChunk(keys[i], Chunk.andNot(chunks[i], other.chunks[j]));
+            } else {
+                result.appendChunk(keys[i], chunks[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes every value in this bitmap to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the values in this bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] size = {0};
+        forEach(value -> values[size[0]++] = value);
+        return values;
+    }
+
+    private int findChunk(char key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int position, char key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, position, keys, position + 1, chunkCount - position);
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        keys[position] = key;
+        chunks[position] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, chunkCount - position - 1);
+        System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * Appends {@code chunk} under {@code key}, which must be greater than every key so far, unless it is empty.
+     */
+    private void appendChunk(char key, Chunk chunk) {
+        if (chunk.cardinality > 0) {
+            insertChunk(chunkCount, key, chunk);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RoaringBitmap)) {
+            return false;
+        }
+
+        RoaringBitmap otherBitmap = (RoaringBitmap) other;
+        return Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("values", Arrays.toString(toArray()))
+                .toString();
+    }
+
+    /**
+     * The low 16 bits of the values sharing one key, as a sorted array while sparse and as a bitmap while dense.
+     * Exactly one of {@code values} and {@code words} is in use at a time.
+     */
+    private static class Chunk {
+        private char[] values = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        boolean isDense() {
+            return words != null;
+        }
+
+        boolean contains(char value) {
+            return isDense()
+                    ? (words[value >>> 6] & (1L << value)) != 0
+                    : Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        void add(char value) {
+            if (isDense()) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) == 0) {
+                    words[value >>> 6] |= bit;
+                    cardinality++;
+                }
+                return;
+            }
+
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return;
+            }
+            if (cardinality == MAX_ARRAY_SIZE) {
+                makeDense();
+                add(value);
+                return;
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+        }
+
+        void remove(char value) {
+            if (isDense()) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) != 0) {
+                    words[value >>> 6] &= ~bit;
+                    cardinality--;
+                    if (cardinality <= MAX_ARRAY_SIZE) {
+                        makeSparse();
+                    }
+                }
+                return;
+            }
+
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+        }
+
+        void forEach(int high, IntConsumer action) {
+            if (!isDense()) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(high | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            copy.values = values == null ? null : values.clone();
+            copy.words = words == null ? null : words.clone();
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        private long[] toWords() {
+            if (isDense()) {
+                return words.clone();
+            }
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < cardinality; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        private void makeDense() {
+            words = toWords();
+            values = null;
+        }
+
+        private void makeSparse() {
+            char[] sparse = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    sparse[size++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = sparse;
+            words = null;
+        }
+
+        private static Chunk ofSorted(char[] values, int cardinality) {
+            Chunk chunk = new Chunk();
+            chunk.values = values;
+            chunk.cardinality = cardinality;
+            return chunk;
+        }
+
+        private static Chunk ofWords(long[] words) {
+            Chunk chunk = new Chunk();
+            chunk.words = words;
+            for (long word : words) {
+                chunk.cardinality += Long.bitCount(word);
+            }
+            if (chunk.cardinality <= MAX_ARRAY_SIZE) {
+                chunk.makeSparse();
+            }
+            return chunk;
+        }
+
+        /**
+         * Keeps the values of the sparse chunk {@code source} that are ({@code keep} true) or are not in {@code other}.
+         */
+        private static Chunk filter(Chunk source, Chunk other, boolean keep) {
+            char[] result = new char[source.cardinality];
+            int size = 0;
+            for (int i = 0; i < source.cardinality; i++) {
+                if (other.contains(source.values[i]) == keep) {
+                    result[size++] = source.values[i];
+                }
+            }
+            return ofSorted(result, size);
+        }
+
+        static Chunk and(Chunk first, Chunk second) {
+            if (!first.isDense()) {
+                return filter(first, second, true);
+            }
+            if (!second.isDense()) {
+                return filter(second, first, true);
+            }
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] = first.words[i] & second.words[i];
+            }
+            return ofWords(result);
+        }
+
+        static Chunk andNot(Chunk first, Chunk second) {
+            if (!first.isDense()) {
+                return filter(first, second, false);
+            }
+            long[] result = first.words.clone();
+            long[] removed = second.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] &= ~removed[i];
+            }
+            return ofWords(result);
+        }
+
+        static Chunk or(Chunk first, Chunk second) {
+            if (first.isDense() || second.isDense() || first.cardinality + second.cardinality > MAX_ARRAY_SIZE) {
+                long[] result = first.toWords();
+                long[] added = second.isDense() ? second.words : second.toWords();
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result[i] |= added[i];
+                }
+                return ofWords(result);
+            }
+
+            char[] result = new char[first.cardinality + second.cardinality];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < first.cardinality || j < second.cardinality) {
+                if (j == second.cardinality || (i < first.cardinality && first.values[i] < second.values[j])) {
+                    result[size++] = first.values[i++];
+                } else if (i == first.cardinality || first.values[i] > second.values[j]) {
+                    result[size++] = second.values[j++];
+                } else {
+                    result[size++] = first.values[i++];
+                    j++;
+                }
+            }
+            return ofSorted(result, size);
+        }
+    }
+}
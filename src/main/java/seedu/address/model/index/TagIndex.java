@@ -0,0 +1,120 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Maps each tag, ignoring case, to the persons that have it.
+ * Every indexed person has a stable ordinal, and each tag maps to a {@link RoaringBitmap} of the ordinals of the
+ * persons with it, so questions such as "tagged A and B but not C" are answered by combining bitmaps with
+ * {@link RoaringBitmap#and}, {@link RoaringBitmap#or} and {@link RoaringBitmap#andNot} and passing the result to
+ * {@link #getPersons(RoaringBitmap)}.
+ */
+public class TagIndex implements PersonIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final Map<String, RoaringBitmap> ordinalsByTag = new HashMap<>();
+
+    /**
+     * Returns a tag index of {@code persons}.
+     */
+    public static TagIndex of(Collection<Person> persons) {
+        TagIndex tagIndex = new TagIndex();
+        persons.forEach(tagIndex::add);
+        return tagIndex;
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.add(person);
+        for (Tag tag : person.getTags()) {
+            ordinalsByTag.computeIfAbsent(normalize(tag), unused -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.remove(person);
+        if (ordinal < 0) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            String key = normalize(tag);
+            RoaringBitmap bitmap = ordinalsByTag.get(key);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    ordinalsByTag.remove(key);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinals.clear();
+        ordinalsByTag.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons that have {@code tag}, ignoring case.
+     * The bitmap must not be kept across changes to the contact list.
+     */
+    public RoaringBitmap getBitmap(Tag tag) {
+        requireNonNull(tag);
+        return ordinalsByTag.getOrDefault(normalize(tag), EMPTY);
+    }
+
+    /**
+     * Returns the persons whose ordinals are in {@code bitmap}, in ordinal order.
+     * Ordinals that no person has are skipped.
+     */
+    public List<Person> getPersons(RoaringBitmap bitmap) {
+        requireNonNull(bitmap);
+        List<Person> persons = new ArrayList<>(bitmap.cardinality());
+        bitmap.forEach(ordinal -> {
+            Person person = ordinals.getPerson(ordinal);
+            if (person != null) {
+                persons.add(person);
+            }
+        });
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons that have {@code tag}, ignoring case.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        return getBitmap(tag).cardinality();
+    }
+
+    /**
+     * Returns the persons that have {@code tag}, ignoring case.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        return new LinkedHashSet<>(getPersons(getBitmap(tag)));
+    }
+
+    /**
+     * Returns the key {@code tag} is indexed under, which is the same for tags that differ only in case.
+     * The key does not depend on the default locale.
+     */
+    public static String normalize(Tag tag) {
+        return tag.tagName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a student's class id in the contact list.
+ * A module has only a handful of classes, so prefer {@link #of(String)}, which shares one instance per class id.
  * Guarantees: immutable; is valid as declared in {@link #isValidClassId(String)}
  */
 public class ClassId {
@@ -18,6 +21,8 @@ public class ClassId {
      */
     public static final String VALIDATION_REGEX = "[^\\s].{0,15}";
 
+    private static final Interner<ClassId> POOL = new Interner<>(ClassId::new);
+
     public final String value;
 
     /**
@@ -31,6 +36,15 @@ public class ClassId {
         value = classId;
     }
 
+    /**
+     * Returns the shared {@code ClassId} for {@code classId}.
+     *
+     * @param classId A valid class id.
+     */
+    public static ClassId of(String classId) {
+        return POOL.intern(classId);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
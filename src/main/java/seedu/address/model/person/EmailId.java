@@ -5,14 +5,20 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a student's email id in the contact list.
+ * The id is held packed into a single {@code int}, as its seven digits, and is only rendered as a string when
+ * asked for.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmailId(String)}
  */
 public class EmailId {
     public static final String MESSAGE_CONSTRAINTS =
             "EmailId should follow the format: Exxxxxxx, with 7 x's, where each x is a number";
-    public static final String VALIDATION_REGEX = "E\\d{7}";
     public static final String EMAIL_SUFFIX = "@u.nus.edu";
-    public final String value;
+
+    private static final char PREFIX = 'E';
+    private static final int DIGIT_COUNT = 7;
+    private static final int MAX_PACKED = 9_999_999;
+
+    private final int packed;
 
     /**
      * Constructs an {@code EmailId}.
@@ -22,7 +28,25 @@ public class EmailId {
     public EmailId(String emailId) {
         requireNonNull(emailId);
         checkArgument(isValidEmailId(emailId), MESSAGE_CONSTRAINTS);
-        value = emailId;
+        int digits = 0;
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            digits = digits * 10 + (emailId.charAt(i) - '0');
+        }
+        packed = digits;
+    }
+
+    private EmailId(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the {@code EmailId} packed into {@code packed} by {@link #toPackedInt()}.
+     *
+     * @throws IllegalArgumentException if {@code packed} is not a packed email id.
+     */
+    public static EmailId fromPackedInt(int packed) {
+        checkArgument(packed >= 0 && packed <= MAX_PACKED, MESSAGE_CONSTRAINTS);
+        return new EmailId(packed);
     }
 
     /**
@@ -31,12 +55,42 @@ public class EmailId {
      * @param test The string to be checked for validity.
      */
     public static boolean isValidEmailId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != DIGIT_COUNT + 1 || test.charAt(0) != PREFIX) {
+            return false;
+        }
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the email id packed into a single non-negative {@code int}.
+     */
+    public int toPackedInt() {
+        return packed;
+    }
+
+    /**
+     * Returns the email id in its canonical form, {@code Exxxxxxx}, without the email suffix.
+     */
+    public String getValue() {
+        char[] chars = new char[DIGIT_COUNT + 1];
+        chars[0] = PREFIX;
+        int digits = packed;
+        for (int i = DIGIT_COUNT; i >= 1; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(chars);
     }
 
     @Override
     public String toString() {
-        return value + EMAIL_SUFFIX;
+        return getValue() + EMAIL_SUFFIX;
     }
 
     @Override
@@ -51,12 +105,12 @@ public class EmailId {
         }
 
         EmailId otherEmailId = (EmailId) other;
-        return value.equals(otherEmailId.value);
+        return packed == otherEmailId.packed;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(packed);
     }
 
 }
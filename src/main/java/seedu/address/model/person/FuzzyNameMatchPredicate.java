@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.NameTokenIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} contains a word within a few edits of any of the keywords given,
+ * ignoring case. Keywords of up to 2 letters must match exactly, up to 5 letters may be 1 edit away,
+ * and longer keywords may be 2 edits away.
+ * The predicate itself keeps no state, so it can stay in use as the current filter and as a filter cache key.
+ */
+public class FuzzyNameMatchPredicate implements IndexedPredicate {
+    /** Distance of a person whose name does not match. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final List<String> keywordTokens;
+
+    /**
+     * Creates a predicate matching names that contain a word close to any of {@code keywords}.
+     */
+    public FuzzyNameMatchPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.keywordTokens = new ArrayList<>();
+        for (String keyword : keywords) {
+            keywordTokens.addAll(NameTokenIndex.tokenize(keyword));
+        }
+    }
+
+    /**
+     * Returns the number of edits between the closest keyword and word of {@code person}'s name,
+     * or {@link #NO_MATCH} if no word is close enough to any keyword.
+     */
+    public int getDistance(Person person) {
+        List<String> words = NameTokenIndex.tokenize(person.getName().fullName);
+        int bestDistance = NO_MATCH;
+        for (String keyword : keywordTokens) {
+            int maxDistance = getMaxDistance(keyword);
+            for (String word : words) {
+                int distance = StringUtil.boundedEditDistance(keyword, word, maxDistance);
+                if (distance <= maxDistance) {
+                    bestDistance = Math.min(bestDistance, distance);
+                }
+            }
+        }
+        return bestDistance;
+    }
+
+    /**
+     * Returns a new comparator that ranks closer matches first.
+     * The comparator computes the distance of each person it compares once and remembers it, so sorting does not
+     * repeat the edit distance computations. What it remembers is dropped together with the comparator, so a new
+     * ranking should be taken for every filter.
+     */
+    public Comparator<Person> getRanking() {
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        return Comparator.comparingInt(person -> distances.computeIfAbsent(person, this::getDistance));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) != NO_MATCH;
+    }
+
+    @Override
+    public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+        Set<Person> candidates = new LinkedHashSet<>();
+        for (String keyword : keywordTokens) {
+            candidates.addAll(whoDat.getFuzzyNameCandidates(keyword, getMaxDistance(keyword)));
+        }
+        return candidates.stream().filter(this).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of edits allowed between {@code keyword} and a word of a matching name.
+     */
+    static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNameMatchPredicate)) {
+            return false;
+        }
+
+        FuzzyNameMatchPredicate otherFuzzyNameMatchPredicate = (FuzzyNameMatchPredicate) other;
+        return keywords.equals(otherFuzzyNameMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
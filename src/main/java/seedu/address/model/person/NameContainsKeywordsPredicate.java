@@ -1,25 +1,64 @@
 package seedu.address.model.person;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.NameTokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> keywordTokens;
 
+    /**
+     * Creates a predicate matching names that contain any of {@code keywords} as a whole word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordTokens = new HashSet<>();
+        for (String keyword : keywords) {
+            keywordTokens.addAll(NameTokenIndex.tokenize(keyword));
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        for (String token : NameTokenIndex.tokenize(person.getName().fullName)) {
+            if (keywordTokens.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+        Set<Person> matches = new LinkedHashSet<>();
+        for (String token : keywordTokens) {
+            matches.addAll(whoDat.getPersonsWithNameToken(token));
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Persons whose names contain several of the keywords are counted once for each.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyWhoDat whoDat) {
+        long count = 0;
+        for (String token : keywordTokens) {
+            count += whoDat.getPersonsWithNameToken(token).size();
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
     }
 
     @Override
@@ -37,6 +76,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -25,6 +25,9 @@ public class Person {
     private final ClassId classId;
     private final Set<Tag> tags = new HashSet<>();
 
+    /** Cached hash code, as persons are hashed into every contact list index; 0 until first computed. */
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -74,13 +77,8 @@ public class Person {
             return false;
         }
 
-        String otherStudentId = otherPerson.getStudentId().toString();
-        String currentStudentId = getStudentId().toString();
-        boolean isSameStudentId = otherStudentId.equals(currentStudentId);
-
-        String otherEmail = otherPerson.getEmail().toString();
-        String currentEmail = getEmail().toString();
-        boolean isSameEmail = otherEmail.equals(currentEmail);
+        boolean isSameStudentId = studentId.equals(otherPerson.studentId);
+        boolean isSameEmail = emailId.equals(otherPerson.emailId);
 
         return isSameEmail || isSameStudentId;
     }
@@ -111,7 +109,12 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, studentId, emailId, classId, tags);
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(name, studentId, emailId, classId, tags);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -1,24 +1,42 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.Collection;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.ClassIdIndex;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code ClassId} matches the given class id.
  */
-public class StudentHasSameClassIdPredicate implements Predicate<Person> {
+public class StudentHasSameClassIdPredicate implements IndexedPredicate {
     private final ClassId classId;
 
     public StudentHasSameClassIdPredicate(ClassId classId) {
         this.classId = classId;
     }
 
+    /**
+     * Compares class ids by {@link ClassIdIndex#normalize}, the key they are indexed under.
+     */
     @Override
     public boolean test(Person person) {
-        String currentValue = classId.toString().toLowerCase();
-        String valueToTest = person.getClassId().toString().toLowerCase();
-        return currentValue.equals(valueToTest);
+        return ClassIdIndex.normalize(classId).equals(ClassIdIndex.normalize(person.getClassId()));
+    }
+
+    @Override
+    public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+        return whoDat.getPersonsInClass(classId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * An indexed contact list returns a view of the class, so its size is known without collecting the persons.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyWhoDat whoDat) {
+        return whoDat.getPersonsInClass(classId).size();
     }
 
     @Override
@@ -36,6 +54,11 @@ public class StudentHasSameClassIdPredicate implements Predicate<Person> {
         return classId.equals(otherStudentHasSameClassIdPredicate.classId);
     }
 
+    @Override
+    public int hashCode() {
+        return classId.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("classId", classId).toString();
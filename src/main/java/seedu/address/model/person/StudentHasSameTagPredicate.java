@@ -1,25 +1,46 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.Collection;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.TagIndex;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches the given class id.
  */
-public class StudentHasSameTagPredicate implements Predicate<Person> {
+public class StudentHasSameTagPredicate implements IndexedPredicate {
     private final Tag tag;
 
     public StudentHasSameTagPredicate(Tag tag) {
         this.tag = tag;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns true if {@code person} has the tag, ignoring case the same way {@link TagIndex} does, so that
+     * testing each person and looking the tag up always agree.
+     */
     @Override
     public boolean test(Person person) {
-        String searchTag = tag.toString().toLowerCase();
+        String key = TagIndex.normalize(tag);
         return person.getTags().stream()
-                .anyMatch(t -> t.toString().toLowerCase().equals(searchTag));
+                .anyMatch(t -> TagIndex.normalize(t).equals(key));
+    }
+
+    @Override
+    public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+        return whoDat.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public int estimateMatchCount(ReadOnlyWhoDat whoDat) {
+        return whoDat.countPersonsWithTag(tag);
     }
 
     @Override
@@ -37,6 +58,11 @@ public class StudentHasSameTagPredicate implements Predicate<Person> {
         return tag.equals(otherStudentHasSameTagPredicate.tag);
     }
 
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("tag", tag).toString();
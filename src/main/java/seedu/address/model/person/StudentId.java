@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a student's student id in the contact list.
+ * The id is held packed into a single {@code int}, as its seven digits and final letter, and is only rendered as a
+ * string when asked for.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
  */
 public class StudentId {
@@ -13,9 +15,14 @@ public class StudentId {
             "Invalid StudentId format! \n"
                     + "Student ID should be in the format of AxxxxxxxX, where x are numerical digits "
                     + "and X is a capitalised alphabet.";
-    public static final String VALIDATION_REGEX = "A\\d{7}[A-Z]";
-    public final String value;
 
+    private static final char PREFIX = 'A';
+    private static final int DIGIT_COUNT = 7;
+    private static final int LENGTH = DIGIT_COUNT + 2;
+    private static final int LETTER_COUNT = 26;
+    private static final int MAX_PACKED = 10_000_000 * LETTER_COUNT - 1;
+
+    private final int packed;
 
     /**
      * Constructs a {@code StudentId}.
@@ -25,21 +32,81 @@ public class StudentId {
     public StudentId(String studentId) {
         requireNonNull(studentId);
         String trimmedStudentId = studentId.trim();
-        checkArgument(isValidStudentId(trimmedStudentId), MESSAGE_CONSTRAINTS);
-        value = studentId;
+        checkArgument(isCanonicalStudentId(trimmedStudentId), MESSAGE_CONSTRAINTS);
+        packed = pack(trimmedStudentId);
+    }
+
+    private StudentId(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the {@code StudentId} packed into {@code packed} by {@link #toPackedInt()}.
+     *
+     * @throws IllegalArgumentException if {@code packed} is not a packed student id.
+     */
+    public static StudentId fromPackedInt(int packed) {
+        checkArgument(packed >= 0 && packed <= MAX_PACKED, MESSAGE_CONSTRAINTS);
+        return new StudentId(packed);
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns true if a given string is a valid student id.
      */
     public static boolean isValidStudentId(String test) {
-        String trimmedTestString = test.trim();
-        return trimmedTestString.matches(VALIDATION_REGEX);
+        return isCanonicalStudentId(test.trim());
+    }
+
+    private static boolean isCanonicalStudentId(String test) {
+        if (test.length() != LENGTH || test.charAt(0) != PREFIX) {
+            return false;
+        }
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        char letter = test.charAt(LENGTH - 1);
+        return letter >= 'A' && letter <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int pack(String canonicalStudentId) {
+        int digits = 0;
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            digits = digits * 10 + (canonicalStudentId.charAt(i) - '0');
+        }
+        return digits * LETTER_COUNT + (canonicalStudentId.charAt(LENGTH - 1) - 'A');
+    }
+
+    /**
+     * Returns the student id packed into a single non-negative {@code int}.
+     */
+    public int toPackedInt() {
+        return packed;
+    }
+
+    /**
+     * Returns the student id in its canonical form, {@code AxxxxxxxX}.
+     */
+    public String getValue() {
+        char[] chars = new char[LENGTH];
+        chars[0] = PREFIX;
+        int digits = packed / LETTER_COUNT;
+        for (int i = DIGIT_COUNT; i >= 1; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        chars[LENGTH - 1] = (char) ('A' + packed % LETTER_COUNT);
+        return new String(chars);
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -54,12 +121,12 @@ public class StudentId {
         }
 
         StudentId otherStudentId = (StudentId) other;
-        return value.equals(otherStudentId.value);
+        return packed == otherStudentId.packed;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(packed);
     }
 
 }
@@ -1,13 +1,16 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.Collection;
+import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class StudentIdMatchPredicate implements Predicate<Person> {
+public class StudentIdMatchPredicate implements IndexedPredicate {
     private final StudentId studentId;
 
     public StudentIdMatchPredicate(StudentId studentId) {
@@ -20,6 +23,20 @@ public class StudentIdMatchPredicate implements Predicate<Person> {
 
     }
 
+    @Override
+    public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+        return whoDat.findByStudentId(studentId).map(List::of).orElse(List.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Student ids are unique, so at most one person matches.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyWhoDat whoDat) {
+        return 1;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -35,6 +52,11 @@ public class StudentIdMatchPredicate implements Predicate<Person> {
         return studentId.equals(otherStudentIdMatchPredicate.studentId);
     }
 
+    @Override
+    public int hashCode() {
+        return studentId.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("studentId", studentId).toString();
@@ -3,8 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +27,69 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * being added or updated is unique in terms of identity in the UniquePersonList. However, the removal of a person uses
  * Person#equals(Object) so as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code StudentId} and {@code EmailId}, so that duplicate checks and lookups by
+ * either identity field take constant time. The indexes are updated together with every mutation of the list.
+ * Each stored person also has an order key, which sorts persons in list order without searching the list, and
+ * locates a stored person's position by binary search. Consecutive keys are spaced apart, so a person inserted
+ * between two others can usually be given a key between theirs; the keys are only renumbered when there is no room
+ * left.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#hasSameStudentIdAndEmailId(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final String MESSAGE_CONFLICT_FORMAT = "%1$s %2$s is used by both %3$s and %4$s";
+    private static final long ORDER_KEY_GAP = 1L << 16;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Person> personsByStudentId = new HashMap<>();
+    private final Map<EmailId, Person> personsByEmailId = new HashMap<>();
+    private final Map<Person, Long> orderKeys = new IdentityHashMap<>();
+    private long nextOrderKey;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameStudentIdAndEmailId);
+        return personsByStudentId.containsKey(toCheck.getStudentId())
+                || personsByEmailId.containsKey(toCheck.getEmail());
+    }
+
+    /**
+     * Returns the person with the given {@code studentId}, if any.
+     */
+    public Optional<Person> getByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return Optional.ofNullable(personsByStudentId.get(studentId));
+    }
+
+    /**
+     * Returns the person with the given {@code emailId}, if any.
+     */
+    public Optional<Person> getByEmailId(EmailId emailId) {
+        requireNonNull(emailId);
+        return Optional.ofNullable(personsByEmailId.get(emailId));
+    }
+
+    /**
+     * Returns the order key of {@code person}, which must be stored in this list.
+     * Of two stored persons, the one with the smaller key comes first in the list. A key does not change when persons
+     * are appended or removed, and an edited person keeps the key of the person it replaced. Inserting a person where
+     * there is no room between two keys renumbers every key, keeping their order, so keys should be compared when
+     * needed rather than kept across changes.
+     * The keys of added persons are already known to listeners of the list when they are told of the change.
+     */
+    public long getOrderKey(Person person) {
+        Long orderKey = orderKeys.get(person);
+        if (orderKey == null) {
+            throw new PersonNotFoundException();
+        }
+        return orderKey;
     }
 
     /**
@@ -45,58 +101,234 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndexes(toAdd);
+        orderKeys.put(toAdd, takeNextOrderKey());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person at position {@code index} of the list, after the persons before it.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        Objects.checkIndex(index, internalList.size() + 1);
+        if (index == internalList.size()) {
+            add(toAdd);
+            return;
+        }
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+
+        if (getRoomBefore(index) < 2) {
+            renumberOrderKeys();
+        }
+        long nextKey = orderKeys.get(internalList.get(index));
+        addToIndexes(toAdd);
+        orderKeys.put(toAdd, nextKey - getRoomBefore(index) / 2);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order.
+     * None of the persons may already exist in the list, or share a student id or email id with another of them.
+     * Uniqueness is checked in a single pass and the persons are appended with a single change notification.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair of persons if any person is not unique, in
+     *     which case the list is unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<StudentId, Person> newPersonsByStudentId = new HashMap<>();
+        Map<EmailId, Person> newPersonsByEmailId = new HashMap<>();
+        indexUniquePersons(toAdd, personsByStudentId, personsByEmailId, newPersonsByStudentId, newPersonsByEmailId);
+
+        personsByStudentId.putAll(newPersonsByStudentId);
+        personsByEmailId.putAll(newPersonsByEmailId);
+        toAdd.forEach(person -> orderKeys.put(person, takeNextOrderKey()));
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the position of {@code editedPerson} in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
-        if (!target.hasSameStudentIdAndEmailId(editedPerson) && contains(editedPerson)) {
+        Person storedTarget = getStoredPerson(target);
+        if (isClaimedByOtherPerson(editedPerson, storedTarget)) {
             throw new DuplicatePersonException();
         }
 
+        int index = indexOf(storedTarget);
+
+        removeFromIndexes(storedTarget);
+        addToIndexes(editedPerson);
+        orderKeys.put(editedPerson, orderKeys.remove(storedTarget));
         internalList.set(index, editedPerson);
+        return index;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the position the person was at in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        Person storedPerson = getStoredPerson(toRemove);
+        int index = indexOf(storedPerson);
+        removeFromIndexes(storedPerson);
+        orderKeys.remove(storedPerson);
+        internalList.remove(index);
+        return index;
+    }
+
+    /**
+     * Removes all of the equivalent persons in {@code toRemove} from the list.
+     * Every person must exist in the list. The persons are located by their order keys and removed in a single pass
+     * over the list, with a single change notification.
+     *
+     * @return the positions the persons were at in the list, in ascending order.
+     */
+    public int[] removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> storedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            requireNonNull(person);
+            storedPersons.add(getStoredPerson(person));
+        }
+
+        if (storedPersons.isEmpty()) {
+            return new int[0];
         }
+
+        int[] positions = storedPersons.stream().mapToInt(this::indexOf).sorted().toArray();
+        storedPersons.forEach(this::removeFromIndexes);
+        orderKeys.keySet().removeAll(storedPersons);
+        internalList.removeAll(storedPersons);
+        return positions;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByStudentId.clear();
+        personsByStudentId.putAll(replacement.personsByStudentId);
+        personsByEmailId.clear();
+        personsByEmailId.putAll(replacement.personsByEmailId);
+        orderKeys.clear();
+        orderKeys.putAll(replacement.orderKeys);
+        nextOrderKey = replacement.nextOrderKey;
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked in a single pass and the backing list is replaced with a single change notification,
+     * so this is the preferred way of loading many persons at once.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair of persons if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<StudentId, Person> newPersonsByStudentId = new HashMap<>();
+        Map<EmailId, Person> newPersonsByEmailId = new HashMap<>();
+        indexUniquePersons(persons, Map.of(), Map.of(), newPersonsByStudentId, newPersonsByEmailId);
 
+        personsByStudentId.clear();
+        personsByStudentId.putAll(newPersonsByStudentId);
+        personsByEmailId.clear();
+        personsByEmailId.putAll(newPersonsByEmailId);
+        orderKeys.clear();
+        nextOrderKey = 0;
+        persons.forEach(person -> orderKeys.put(person, takeNextOrderKey()));
         internalList.setAll(persons);
     }
 
+    /**
+     * Indexes {@code persons} by student id and email id into {@code newPersonsByStudentId} and
+     * {@code newPersonsByEmailId}, checking in a single pass that no id is used twice among them or is already
+     * taken in {@code takenStudentIds} or {@code takenEmailIds}.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair of persons if any person is not unique.
+     */
+    private static void indexUniquePersons(List<Person> persons, Map<StudentId, Person> takenStudentIds,
+            Map<EmailId, Person> takenEmailIds, Map<StudentId, Person> newPersonsByStudentId,
+            Map<EmailId, Person> newPersonsByEmailId) {
+        List<String> conflicts = new ArrayList<>();
+        for (Person person : persons) {
+            requireNonNull(person);
+            Person studentIdOwner = takenStudentIds.get(person.getStudentId());
+            if (studentIdOwner == null) {
+                studentIdOwner = newPersonsByStudentId.putIfAbsent(person.getStudentId(), person);
+            }
+            if (studentIdOwner != null) {
+                conflicts.add(describeConflict("Student ID", person.getStudentId(), studentIdOwner, person));
+            }
+            Person emailIdOwner = takenEmailIds.get(person.getEmail());
+            if (emailIdOwner == null) {
+                emailIdOwner = newPersonsByEmailId.putIfAbsent(person.getEmail(), person);
+            }
+            if (emailIdOwner != null) {
+                conflicts.add(describeConflict("Email ID", person.getEmail().getValue(), emailIdOwner, person));
+            }
+        }
+
+        if (!conflicts.isEmpty()) {
+            throw new DuplicatePersonException(conflicts);
+        }
+    }
+
+    /**
+     * Returns the position of {@code storedPerson} in the list, found by binary search on the order keys.
+     */
+    private int indexOf(Person storedPerson) {
+        long orderKey = orderKeys.get(storedPerson);
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleKey = orderKeys.get(internalList.get(middle));
+            if (middleKey < orderKey) {
+                low = middle + 1;
+            } else if (middleKey > orderKey) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        throw new AssertionError("A stored person must be present in the list.");
+    }
+
+    private long takeNextOrderKey() {
+        long orderKey = nextOrderKey;
+        nextOrderKey += ORDER_KEY_GAP;
+        return orderKey;
+    }
+
+    /**
+     * Returns the difference between the order key of the person at {@code index} and that of the person before it.
+     */
+    private long getRoomBefore(int index) {
+        long key = orderKeys.get(internalList.get(index));
+        return index == 0 ? ORDER_KEY_GAP : key - orderKeys.get(internalList.get(index - 1));
+    }
+
+    /**
+     * Gives the persons evenly spaced order keys again, in list order.
+     */
+    private void renumberOrderKeys() {
+        nextOrderKey = 0;
+        internalList.forEach(person -> orderKeys.put(person, takeNextOrderKey()));
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,16 +367,40 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person stored in this list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if no such person is stored in this list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSameStudentIdAndEmailId(persons.get(j))) {
-                    return false;
-                }
-            }
+    private Person getStoredPerson(Person person) {
+        Person storedPerson = personsByStudentId.get(person.getStudentId());
+        if (storedPerson == null || !storedPerson.equals(person)) {
+            throw new PersonNotFoundException();
         }
-        return true;
+        return storedPerson;
+    }
+
+    /**
+     * Returns true if the student id or email id of {@code person} belongs to a stored person other than
+     * {@code owner}.
+     */
+    private boolean isClaimedByOtherPerson(Person person, Person owner) {
+        Person studentIdOwner = personsByStudentId.get(person.getStudentId());
+        Person emailIdOwner = personsByEmailId.get(person.getEmail());
+        return (studentIdOwner != null && studentIdOwner != owner)
+                || (emailIdOwner != null && emailIdOwner != owner);
+    }
+
+    private void addToIndexes(Person person) {
+        personsByStudentId.put(person.getStudentId(), person);
+        personsByEmailId.put(person.getEmail(), person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        personsByStudentId.remove(person.getStudentId());
+        personsByEmailId.remove(person.getEmail());
+    }
+
+    private static String describeConflict(String field, Object value, Person first, Person second) {
+        return String.format(MESSAGE_CONFLICT_FORMAT, field, value, first.getName(), second.getName());
     }
 }
@@ -1,11 +1,33 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<String> conflicts;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        conflicts = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} describing each of the given {@code conflicts}.
+     */
+    public DuplicatePersonException(List<String> conflicts) {
+        super("Operation would result in duplicate persons:\n" + String.join("\n", conflicts));
+        this.conflicts = Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * Returns a description of every conflicting pair of persons, or an empty list if none were recorded.
+     */
+    public List<String> getConflicts() {
+        return conflicts;
     }
 }
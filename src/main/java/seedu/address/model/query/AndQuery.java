@@ -0,0 +1,125 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.RoaringBitmap;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons that all of its operands match.
+ */
+public class AndQuery implements Query {
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the persons that every query in {@code operands} matches.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Query operand : operands) {
+            if (!operand.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Every match of this query is a match of each operand, so the candidates of any operand will do. The operand
+     * with the smallest estimated count is chosen, and only its candidates are collected.
+     */
+    @Override
+    public Optional<Collection<Person>> getCandidates(ReadOnlyWhoDat whoDat) {
+        Query mostSelective = null;
+        int fewestCandidates = Integer.MAX_VALUE;
+        for (Query operand : operands) {
+            OptionalInt candidateCount = operand.estimateCandidateCount(whoDat);
+            if (candidateCount.isPresent() && (mostSelective == null || candidateCount.getAsInt() < fewestCandidates)) {
+                mostSelective = operand;
+                fewestCandidates = candidateCount.getAsInt();
+            }
+        }
+        return mostSelective == null ? Optional.empty() : mostSelective.getCandidates(whoDat);
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(ReadOnlyWhoDat whoDat) {
+        return operands.stream()
+                .map(operand -> operand.estimateCandidateCount(whoDat))
+                .filter(OptionalInt::isPresent)
+                .mapToInt(OptionalInt::getAsInt)
+                .min();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Every operand must be answerable from tags alone, or be the negation of such a query, and at least one operand
+     * must not be negated: the matches of the other operands are intersected, then those of the negated ones removed.
+     */
+    @Override
+    public Optional<RoaringBitmap> getTagBitmap(TagIndex tagIndex) {
+        RoaringBitmap matches = null;
+        List<RoaringBitmap> excluded = new ArrayList<>();
+        for (Query operand : operands) {
+            boolean isNegated = operand instanceof NotQuery;
+            Query tagQuery = isNegated ? ((NotQuery) operand).getOperand() : operand;
+            Optional<RoaringBitmap> operandMatches = tagQuery.getTagBitmap(tagIndex);
+            if (operandMatches.isEmpty()) {
+                return Optional.empty();
+            }
+            if (isNegated) {
+                excluded.add(operandMatches.get());
+            } else {
+                matches = matches == null ? operandMatches.get() : matches.and(operandMatches.get());
+            }
+        }
+
+        if (matches == null) {
+            return Optional.empty();
+        }
+        for (RoaringBitmap excludedMatches : excluded) {
+            matches = matches.andNot(excludedMatches);
+        }
+        return Optional.of(matches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return operands.equals(otherAndQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons that its operand does not match.
+ */
+public class NotQuery implements Query {
+    private final Query operand;
+
+    /**
+     * Creates a query matching the persons that {@code operand} does not match.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The indexes only list the persons that match a term, so a negated query is never narrowed down.
+     */
+    @Override
+    public Optional<Collection<Person>> getCandidates(ReadOnlyWhoDat whoDat) {
+        return Optional.empty();
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(ReadOnlyWhoDat whoDat) {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the query this query negates.
+     */
+    Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return operand.equals(otherNotQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        // mixed with a constant, so that a negation does not hash the same as its operand
+        return 31 * operand.hashCode() + 1;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.RoaringBitmap;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons that any of its operands match.
+ */
+public class OrQuery implements Query {
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the persons that at least one query in {@code operands} matches.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Query operand : operands) {
+            if (operand.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The candidates are those of all operands together, so every operand must be narrowed down by an index.
+     */
+    @Override
+    public Optional<Collection<Person>> getCandidates(ReadOnlyWhoDat whoDat) {
+        Set<Person> allCandidates = new LinkedHashSet<>();
+        for (Query operand : operands) {
+            Optional<Collection<Person>> candidates = operand.getCandidates(whoDat);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            allCandidates.addAll(candidates.get());
+        }
+        return Optional.of(allCandidates);
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(ReadOnlyWhoDat whoDat) {
+        long count = 0;
+        for (Query operand : operands) {
+            OptionalInt operandCount = operand.estimateCandidateCount(whoDat);
+            if (operandCount.isEmpty()) {
+                return OptionalInt.empty();
+            }
+            count += operandCount.getAsInt();
+        }
+        return OptionalInt.of((int) Math.min(count, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Every operand must be answerable from tags alone.
+     */
+    @Override
+    public Optional<RoaringBitmap> getTagBitmap(TagIndex tagIndex) {
+        RoaringBitmap matches = new RoaringBitmap();
+        for (Query operand : operands) {
+            Optional<RoaringBitmap> operandMatches = operand.getTagBitmap(tagIndex);
+            if (operandMatches.isEmpty()) {
+                return Optional.empty();
+            }
+            matches = matches.or(operandMatches.get());
+        }
+        return Optional.of(matches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return operands.equals(otherOrQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.query;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.RoaringBitmap;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * A node of a boolean query over persons, such as {@code class:CS2103T-01 AND tag:NeedHelp AND NOT name:john}.
+ * A query is looked up by narrowing the persons to check with the contact list's indexes first,
+ * and then testing the whole query on only those persons.
+ * A query made only of tags, such as {@code tag:A AND tag:B AND NOT tag:C}, is instead answered exactly by combining
+ * the tag bitmaps of the contact list's {@link TagIndex}.
+ */
+public interface Query extends IndexedPredicate {
+
+    /**
+     * Returns persons of {@code whoDat} that include every person this query matches, taken from the indexes of
+     * {@code whoDat}, or an empty {@code Optional} if no index can narrow the query down.
+     * Some of the persons returned may not match the query.
+     */
+    Optional<Collection<Person>> getCandidates(ReadOnlyWhoDat whoDat);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #getCandidates} returns, taken from the sizes the
+     * indexes of {@code whoDat} keep without collecting any persons, or an empty {@code OptionalInt} if no index can
+     * narrow the query down.
+     */
+    OptionalInt estimateCandidateCount(ReadOnlyWhoDat whoDat);
+
+    /**
+     * Returns the ordinals in {@code tagIndex} of exactly the persons this query matches, or an empty
+     * {@code Optional} if the query cannot be answered from tags alone.
+     */
+    default Optional<RoaringBitmap> getTagBitmap(TagIndex tagIndex) {
+        return Optional.empty();
+    }
+
+    @Override
+    default Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+        TagIndex tagIndex = whoDat.getTagIndex();
+        Optional<RoaringBitmap> matches = getTagBitmap(tagIndex);
+        if (matches.isPresent()) {
+            return tagIndex.getPersons(matches.get());
+        }
+
+        Collection<Person> candidates = getCandidates(whoDat).orElse(whoDat.getPersonList());
+        return candidates.stream().filter(this).collect(Collectors.toList());
+    }
+}
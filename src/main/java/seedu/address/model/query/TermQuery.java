@@ -0,0 +1,82 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.RoaringBitmap;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+
+/**
+ * A query matching the persons of a single indexed predicate, such as {@code tag:NeedHelp}.
+ */
+public class TermQuery implements Query {
+    private final IndexedPredicate predicate;
+
+    /**
+     * Creates a query matching the persons that {@code predicate} matches.
+     */
+    public TermQuery(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    public Optional<Collection<Person>> getCandidates(ReadOnlyWhoDat whoDat) {
+        return Optional.of(predicate.lookUp(whoDat));
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(ReadOnlyWhoDat whoDat) {
+        return OptionalInt.of(predicate.estimateMatchCount(whoDat));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only a tag term has a bitmap of its own.
+     */
+    @Override
+    public Optional<RoaringBitmap> getTagBitmap(TagIndex tagIndex) {
+        if (!(predicate instanceof StudentHasSameTagPredicate)) {
+            return Optional.empty();
+        }
+        return Optional.of(tagIndex.getBitmap(((StudentHasSameTagPredicate) predicate).getTag()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TermQuery)) {
+            return false;
+        }
+
+        TermQuery otherTermQuery = (TermQuery) other;
+        return predicate.equals(otherTermQuery.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tag.
+ * Tags repeat across many persons, so prefer {@link #of(String)}, which shares one instance per tag name.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
@@ -13,6 +16,8 @@ public class Tag {
             + "and 1 to 16 characters long. ";
     public static final String VALIDATION_REGEX = "^\\p{Alnum}{1,16}$";
 
+    private static final Interner<Tag> POOL = new Interner<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -26,6 +31,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -21,22 +21,22 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new StudentId("A1234567B"), new EmailId("E2234567"),
-                    new ClassId("CS5446-01"),
+                    ClassId.of("CS5446-01"),
                     getTagSet("NeedHelp")),
             new Person(new Name("Bernice Yu"), new StudentId("A2345678C"), new EmailId("E3234567"),
-                    new ClassId("CS5446-01"),
+                    ClassId.of("CS5446-01"),
                     getTagSet("NeedHelp", "LateSubmission")),
             new Person(new Name("Charlotte Oliveiro"), new StudentId("A3456789D"), new EmailId("E4234567"),
-                    new ClassId("CS5446-01"),
+                    ClassId.of("CS5446-01"),
                     getTagSet("NoSubmission")),
             new Person(new Name("David Li"), new StudentId("A4567890E"), new EmailId("E5234567"),
-                    new ClassId("CS5446-01"),
+                    ClassId.of("CS5446-01"),
                     getTagSet("Consultation")),
             new Person(new Name("Irfan Ibrahim"), new StudentId("A5678901F"), new EmailId("E6234567"),
-                    new ClassId("CS5446-01"),
+                    ClassId.of("CS5446-01"),
                     getTagSet("ToRespond")),
             new Person(new Name("Roy Balakrishnan"), new StudentId("A6789012G"), new EmailId("E7234567"),
-                    new ClassId("CS5446-01"),
+                    ClassId.of("CS5446-01"),
                     getTagSet("LateSubmission"))
         };
     }
@@ -54,7 +54,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
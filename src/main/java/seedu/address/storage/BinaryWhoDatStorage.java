@@ -0,0 +1,314 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.EmailId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access WhoDat data stored in a compact binary file on the hard disk.
+ * <p>
+ * Layout (all integers big-endian):
+ * <pre>
+ * int    magic "WDAT"
+ * int    format version
+ * int    number of class ids, then each class id as a string
+ * int    number of tags, then each tag name as a string
+ * int    number of persons, then for each person:
+ *   int    length of the rest of the record
+ *   string name
+ *   int    packed student id
+ *   int    packed email id
+ *   int    index into the class id table
+ *   int    number of tags, then that many indices into the tag table
+ * </pre>
+ * Strings are an int byte length followed by UTF-8 bytes. Each distinct class id and tag is stored and
+ * constructed only once.
+ * <p>
+ * If the binary file does not exist yet but {@code legacyStorage} has data, that data is loaded and written out
+ * in the binary format, so existing JSON data files are migrated on first start.
+ */
+public class BinaryWhoDatStorage implements WhoDatStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_WHODAT = "Data file is not a binary WhoDat file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted: %s";
+
+    private static final int MAGIC = ('W' << 24) | ('D' << 16) | ('A' << 8) | 'T';
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryWhoDatStorage.class);
+
+    private final Path filePath;
+    private final WhoDatStorage legacyStorage;
+
+    /**
+     * Creates a {@code BinaryWhoDatStorage} for the binary file at {@code filePath}, without migration.
+     */
+    public BinaryWhoDatStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryWhoDatStorage} for the binary file at {@code filePath} that migrates the data in
+     * {@code legacyStorage} the first time it is read, if the binary file does not exist yet.
+     */
+    public BinaryWhoDatStorage(Path filePath, WhoDatStorage legacyStorage) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.legacyStorage = legacyStorage;
+    }
+
+    /**
+     * Returns the binary data file path that goes with the JSON data file at {@code jsonFilePath},
+     * i.e. the same path with its {@code .json} extension replaced by {@code .bin}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getWhoDatFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyWhoDat> readWhoDat() throws DataLoadingException {
+        return readWhoDat(filePath);
+    }
+
+    /**
+     * Similar to {@link #readWhoDat()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyWhoDat> readWhoDat(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return filePath.equals(this.filePath) ? migrateLegacyData() : Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "file is too large"));
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full
+            }
+            buffer.flip();
+            return Optional.of(decode(buffer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private Optional<ReadOnlyWhoDat> migrateLegacyData() throws DataLoadingException {
+        if (legacyStorage == null) {
+            return Optional.empty();
+        }
+
+        Optional<ReadOnlyWhoDat> legacyData = legacyStorage.readWhoDat();
+        if (legacyData.isPresent()) {
+            logger.info("Migrating " + legacyStorage.getWhoDatFilePath() + " to binary data file " + filePath);
+            try {
+                saveWhoDat(legacyData.get());
+            } catch (IOException ioe) {
+                // the data is still returned, and is written out in binary by the next save
+                logger.warning("Failed to write migrated data to " + filePath + ": " + ioe.getMessage());
+            }
+        }
+        return legacyData;
+    }
+
+    @Override
+    public void saveWhoDat(ReadOnlyWhoDat whoDat) throws IOException {
+        saveWhoDat(whoDat, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveWhoDat(ReadOnlyWhoDat)}.
+     * The data is written to a temporary file first, so an interrupted save never leaves a partial data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+        requireNonNull(whoDat);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tempFilePath)))) {
+            encode(whoDat.getPersonList(), out);
+        }
+
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    //// encoding
+
+    private static void encode(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<ClassId, Integer> classIdIndices = new LinkedHashMap<>();
+        Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            classIdIndices.putIfAbsent(person.getClassId(), classIdIndices.size());
+            for (Tag tag : person.getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(classIdIndices.size());
+        for (ClassId classId : classIdIndices.keySet()) {
+            writeString(out, classId.value);
+        }
+        out.writeInt(tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        out.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writeString(record, person.getName().fullName);
+            record.writeInt(person.getStudentId().toPackedInt());
+            record.writeInt(person.getEmail().toPackedInt());
+            record.writeInt(classIdIndices.get(person.getClassId()));
+            record.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                record.writeInt(tagIndices.get(tag));
+            }
+            record.flush();
+
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //// decoding
+
+    private static WhoDat decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_WHODAT);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            ClassId[] classIds = new ClassId[readCount(buffer)];
+            for (int i = 0; i < classIds.length; i++) {
+                classIds[i] = ClassId.of(readString(buffer));
+            }
+            Tag[] tags = new Tag[readCount(buffer)];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = Tag.of(readString(buffer));
+            }
+
+            int personCount = readCount(buffer);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readCount(buffer);
+                int recordEnd = buffer.position() + recordLength;
+                persons.add(readPerson(buffer, classIds, tags));
+                if (buffer.position() > recordEnd) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "person record overruns"));
+                }
+                buffer.position(recordEnd);
+            }
+            return JsonSerializableWhoDat.toWhoDat(persons);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "unexpected end of data"), e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, e.getMessage()), e);
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer, ClassId[] classIds, Tag[] tags) {
+        Name name = new Name(readString(buffer));
+        StudentId studentId = StudentId.fromPackedInt(buffer.getInt());
+        EmailId emailId = EmailId.fromPackedInt(buffer.getInt());
+        ClassId classId = classIds[buffer.getInt()];
+        int tagCount = readCount(buffer);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags[buffer.getInt()]);
+        }
+        return new Person(name, studentId, emailId, classId, personTags);
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("invalid length " + count);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,465 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.model.WhoDatSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A {@code WhoDatStorage} that keeps a snapshot file plus an append-only journal of changes made since.
+ * <p>
+ * Each save appends one record for each change the contact list recorded since the last save, found by following
+ * its chain of changes rather than by comparing the lists, so its cost follows the size of the change rather than
+ * the size of the contact list. Only data that is not a later snapshot of the data last saved, such as a contact
+ * list replaced as a whole, is written out as a full snapshot. Once the journal grows past the
+ * compaction threshold, a fresh snapshot is written by the wrapped {@code snapshotStorage} in the background
+ * and the journal is restarted. Reading loads the snapshot and replays the journal on top of it.
+ * <p>
+ * The journal starts with a header holding the checksum of the snapshot it applies to, so a journal left behind
+ * by an interrupted compaction is never replayed onto the wrong snapshot.
+ */
+public class JournalWhoDatStorage implements WhoDatStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalWhoDatStorage.class);
+
+    private final WhoDatStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor;
+
+    /**
+     * Snapshot of the data as last written to the data file, or null if the data file has not been read or written
+     * yet, or the data last written was not a snapshot of a {@code WhoDat}.
+     */
+    private WhoDatSnapshot savedSnapshot;
+    private long snapshotChecksum;
+    private boolean isJournalStarted;
+    private int journalRecordCount;
+
+    /** Incremented whenever a snapshot is installed, so that an outdated background compaction can be dropped. */
+    private long snapshotGeneration;
+    /** Journal lines appended while a background compaction is running, or null if none is running. */
+    private List<String> linesSinceCompactionStart;
+
+    /**
+     * Creates a {@code JournalWhoDatStorage} that writes snapshots through {@code snapshotStorage}
+     * and compacts after {@link #DEFAULT_COMPACTION_THRESHOLD} journal records.
+     */
+    public JournalWhoDatStorage(WhoDatStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalWhoDatStorage} that writes snapshots through {@code snapshotStorage}
+     * and compacts after {@code compactionThreshold} journal records.
+     */
+    public JournalWhoDatStorage(WhoDatStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "WhoDat journal compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getWhoDatFilePath() {
+        return snapshotStorage.getWhoDatFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyWhoDat> readWhoDat() throws DataLoadingException {
+        return readWhoDat(getWhoDatFilePath());
+    }
+
+    /**
+     * Similar to {@link #readWhoDat()}.
+     * The snapshot, its checksum and the journal are read while holding the lock that a background compaction
+     * holds to swap them, so they always belong together.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyWhoDat> readWhoDat(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyWhoDat> snapshot = snapshotStorage.readWhoDat(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+        if (!Files.exists(filePath)) {
+            // e.g. migrated data that could not be written out; there is no journal for it, so the next save
+            // writes a full snapshot
+            logger.info("No snapshot file at " + filePath + " for the data read, so it has no journal");
+            if (filePath.equals(getWhoDatFilePath())) {
+                savedSnapshot = null;
+                isJournalStarted = false;
+                journalRecordCount = 0;
+            }
+            return snapshot;
+        }
+
+        long checksum;
+        try {
+            checksum = checksumOf(filePath);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        Optional<Path> journal = findJournal(filePath, checksum);
+        int recordCount = journal.isPresent() ? replayJournal(journal.get(), persons) : 0;
+
+        WhoDat whoDat = new WhoDat();
+        try {
+            whoDat.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons after replaying the journal of " + filePath + ": " + dpe.getMessage());
+            throw new DataLoadingException(dpe);
+        }
+
+        if (filePath.equals(getWhoDatFilePath())) {
+            savedSnapshot = (WhoDatSnapshot) whoDat.snapshot();
+            snapshotChecksum = checksum;
+            isJournalStarted = journal.isPresent();
+            journalRecordCount = recordCount;
+        }
+        return Optional.of(whoDat);
+    }
+
+    @Override
+    public void saveWhoDat(ReadOnlyWhoDat whoDat) throws IOException {
+        saveWhoDat(whoDat, getWhoDatFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveWhoDat(ReadOnlyWhoDat)}.
+     * Only the data file returned by {@link #getWhoDatFilePath()} is journaled; any other {@code filePath}
+     * receives a plain snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+        requireNonNull(whoDat);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getWhoDatFilePath())) {
+            snapshotStorage.saveWhoDat(whoDat, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        ReadOnlyWhoDat snapshot = whoDat.snapshot();
+        synchronized (this) {
+            Optional<List<PersonListChange>> changes = getChangesSinceSave(snapshot);
+            if (changes.isEmpty()) {
+                replaceSnapshot(snapshot);
+            } else if (!changes.get().isEmpty()) {
+                appendToJournal(changes.get());
+            }
+            savedSnapshot = snapshot instanceof WhoDatSnapshot ? (WhoDatSnapshot) snapshot : null;
+
+            if (journalRecordCount >= compactionThreshold && linesSinceCompactionStart == null) {
+                startCompaction(snapshot);
+            }
+        }
+    }
+
+    //// journal
+
+    /**
+     * Returns the changes made to the data last saved that turn it into {@code snapshot}, or an empty Optional if
+     * {@code snapshot} is not a later snapshot of the same contact list.
+     */
+    private Optional<List<PersonListChange>> getChangesSinceSave(ReadOnlyWhoDat snapshot) {
+        assert Thread.holdsLock(this);
+        if (savedSnapshot == null || !(snapshot instanceof WhoDatSnapshot)) {
+            return Optional.empty();
+        }
+        return ((WhoDatSnapshot) snapshot).getChangesSince(savedSnapshot);
+    }
+
+    private void appendToJournal(List<PersonListChange> changes) throws IOException {
+        assert Thread.holdsLock(this);
+        List<String> lines = new ArrayList<>();
+        for (PersonListChange change : changes) {
+            lines.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.of(change)));
+        }
+
+        Path journalPath = getJournalFilePath(getWhoDatFilePath());
+        if (isJournalStarted) {
+            Files.write(journalPath, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } else {
+            writeJournal(journalPath, snapshotChecksum, lines);
+            isJournalStarted = true;
+        }
+        journalRecordCount += lines.size();
+        if (linesSinceCompactionStart != null) {
+            linesSinceCompactionStart.addAll(lines);
+        }
+    }
+
+    private static void writeJournal(Path journalPath, long checksum, List<String> lines) throws IOException {
+        List<String> content = new ArrayList<>();
+        content.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.base(checksum)));
+        content.addAll(lines);
+        FileUtil.createParentDirsOfFile(journalPath);
+        Files.write(journalPath, content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the journal that applies to the snapshot with {@code checksum}.
+     * A matching temporary journal means a compaction was interrupted after installing its snapshot,
+     * so it is promoted to be the journal.
+     */
+    private Optional<Path> findJournal(Path filePath, long checksum) throws DataLoadingException {
+        assert Thread.holdsLock(this);
+        Path journalPath = getJournalFilePath(filePath);
+        Path tempJournalPath = getTempPath(journalPath);
+
+        if (hasBaseChecksum(journalPath, checksum)) {
+            return Optional.of(journalPath);
+        }
+        if (hasBaseChecksum(tempJournalPath, checksum)) {
+            try {
+                moveReplacing(tempJournalPath, journalPath);
+            } catch (IOException ioe) {
+                throw new DataLoadingException(ioe);
+            }
+            return Optional.of(journalPath);
+        }
+        if (Files.exists(journalPath)) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not belong to the data file " + filePath);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean hasBaseChecksum(Path journalPath, long checksum) {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            return header != null
+                    && JsonUtil.fromJsonString(header, JsonAdaptedJournalRecord.class).getBaseChecksum() == checksum;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading header of journal " + journalPath + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Applies every record in {@code journalPath} after the header to {@code persons}.
+     * An unreadable last line is the sign of an interrupted append and is skipped.
+     *
+     * @return the number of records applied.
+     */
+    private static int replayJournal(Path journalPath, List<Person> persons) throws DataLoadingException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int recordCount = 0;
+        for (int lineIndex = 1; lineIndex < lines.size(); lineIndex++) {
+            String line = lines.get(lineIndex);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (lineIndex == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record of journal " + journalPath);
+                    break;
+                }
+                logger.warning("Error reading journal " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+
+            try {
+                record.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in journal " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    //// snapshots and compaction
+
+    /**
+     * Writes {@code snapshot}, whose persons never change, as the new snapshot in the background.
+     */
+    private void startCompaction(ReadOnlyWhoDat snapshot) {
+        assert Thread.holdsLock(this);
+        logger.info("Journal reached " + journalRecordCount + " records, compacting in the background");
+        linesSinceCompactionStart = new ArrayList<>();
+        long generation = snapshotGeneration;
+        compactionExecutor.execute(() -> compact(snapshot, generation));
+    }
+
+    /**
+     * Writes {@code snapshot} as the new snapshot right away and empties the journal.
+     */
+    private void replaceSnapshot(ReadOnlyWhoDat snapshot) throws IOException {
+        assert Thread.holdsLock(this);
+        Path tempSnapshotPath = writeSnapshot(snapshot);
+        try {
+            installSnapshot(tempSnapshotPath, Collections.emptyList());
+        } finally {
+            deleteQuietly(tempSnapshotPath);
+        }
+    }
+
+    private void compact(ReadOnlyWhoDat snapshot, long generation) {
+        Path tempSnapshotPath = null;
+        try {
+            tempSnapshotPath = writeSnapshot(snapshot);
+            synchronized (this) {
+                if (generation == snapshotGeneration) {
+                    installSnapshot(tempSnapshotPath, linesSinceCompactionStart);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal: " + ioe.getMessage());
+        } finally {
+            synchronized (this) {
+                if (generation == snapshotGeneration) {
+                    linesSinceCompactionStart = null;
+                }
+            }
+            deleteQuietly(tempSnapshotPath);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} through the snapshot storage to a temporary file next to the data file.
+     */
+    private Path writeSnapshot(ReadOnlyWhoDat snapshot) throws IOException {
+        Path filePath = getWhoDatFilePath();
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempSnapshotPath = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName() + ".snapshot-", TEMP_FILE_SUFFIX);
+        try {
+            snapshotStorage.saveWhoDat(snapshot, tempSnapshotPath);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(tempSnapshotPath);
+            throw e;
+        }
+        return tempSnapshotPath;
+    }
+
+    /**
+     * Replaces the data file with {@code tempSnapshotPath} and restarts the journal with {@code pendingLines},
+     * the records appended since the snapshot was taken.
+     * The new journal is written before the snapshot is moved into place, so an interruption at any point
+     * leaves a snapshot together with a journal whose header matches it.
+     */
+    private void installSnapshot(Path tempSnapshotPath, List<String> pendingLines) throws IOException {
+        assert Thread.holdsLock(this);
+        Path filePath = getWhoDatFilePath();
+        Path journalPath = getJournalFilePath(filePath);
+        Path tempJournalPath = getTempPath(journalPath);
+        long checksum = checksumOf(tempSnapshotPath);
+
+        writeJournal(tempJournalPath, checksum, pendingLines);
+        moveReplacing(tempSnapshotPath, filePath);
+        moveReplacing(tempJournalPath, journalPath);
+
+        snapshotGeneration++;
+        linesSinceCompactionStart = null;
+        snapshotChecksum = checksum;
+        isJournalStarted = true;
+        journalRecordCount = pendingLines.size();
+    }
+
+    //// file helpers
+
+    private static Path getTempPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path filePath) {
+        if (filePath == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete " + filePath + ": " + ioe.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single line in the journal kept by {@link JournalWhoDatStorage}.
+ * The first record of a journal is a {@code base} record naming the snapshot it applies to;
+ * every following record is one {@code add}, {@code insert}, {@code set} or {@code remove} on the person list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private static final String OP_BASE = "base";
+    private static final String OP_ADD = "add";
+    private static final String OP_INSERT = "insert";
+    private static final String OP_SET = "set";
+    private static final String OP_REMOVE = "remove";
+
+    private final String op;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("checksum") Long checksum,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns the header record of a journal that applies on top of the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord base(long checksum) {
+        return new JsonAdaptedJournalRecord(OP_BASE, checksum, null, null);
+    }
+
+    /**
+     * Returns a record that appends {@code person} to the end of the person list.
+     */
+    public static JsonAdaptedJournalRecord add(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalRecord(OP_ADD, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that inserts {@code person} at {@code index}, shifting the persons from there on back by one.
+     */
+    public static JsonAdaptedJournalRecord insert(int index, Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalRecord(OP_INSERT, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalRecord(OP_SET, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OP_REMOVE, null, index, null);
+    }
+
+    /**
+     * Returns the record that makes {@code change} to the person list.
+     */
+    public static JsonAdaptedJournalRecord of(PersonListChange change) {
+        requireNonNull(change);
+        switch (change.getType()) {
+        case APPEND:
+            return add(change.getPerson());
+        case INSERT:
+            return insert(change.getIndex(), change.getPerson());
+        case SET:
+            return set(change.getIndex(), change.getPerson());
+        case REMOVE:
+            return remove(change.getIndex());
+        default:
+            throw new IllegalArgumentException("No journal record for a change of type " + change.getType());
+        }
+    }
+
+    /**
+     * Returns the snapshot checksum if this is a {@code base} record.
+     *
+     * @throws IllegalValueException if this is not a valid {@code base} record.
+     */
+    public long getBaseChecksum() throws IllegalValueException {
+        if (!OP_BASE.equals(op) || checksum == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "expected a base record"));
+        }
+        return checksum;
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     * Uniqueness of the resulting list is not checked here; callers validate the final list in one pass.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OP_ADD.equals(op)) {
+            persons.add(toModelPerson());
+        } else if (OP_INSERT.equals(op)) {
+            persons.add(checkIndex(persons, persons.size() + 1), toModelPerson());
+        } else if (OP_SET.equals(op)) {
+            persons.set(checkIndex(persons, persons.size()), toModelPerson());
+        } else if (OP_REMOVE.equals(op)) {
+            persons.remove(checkIndex(persons, persons.size()));
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown operation " + op));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " without a person"));
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Returns the index of this record, checking that it is below {@code bound}.
+     */
+    private int checkIndex(List<Person> persons, int bound) throws IllegalValueException {
+        if (index == null || index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD,
+                    op + " at index " + index + " of a list of " + persons.size() + " persons"));
+        }
+        return index;
+    }
+
+}
@@ -51,8 +51,8 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
-        studentId = source.getStudentId().value;
-        emailId = source.getEmail().value;
+        studentId = source.getStudentId().getValue();
+        emailId = source.getEmail().getValue();
         address = source.getClassId().value;
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -101,7 +101,7 @@ class JsonAdaptedPerson {
         if (!ClassId.isValidClassId(address)) {
             throw new IllegalValueException(ClassId.MESSAGE_CONSTRAINTS);
         }
-        final ClassId modelClassId = new ClassId(address);
+        final ClassId modelClassId = ClassId.of(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelStudentId, modelEmailId, modelClassId, modelTags);
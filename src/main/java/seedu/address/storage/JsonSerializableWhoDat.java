@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyWhoDat;
 import seedu.address.model.WhoDat;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 
 /**
@@ -47,13 +48,24 @@ class JsonSerializableWhoDat {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public WhoDat toModelType() throws IllegalValueException {
-        WhoDat whoDat = new WhoDat();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (whoDat.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            whoDat.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toWhoDat(modelPersons);
+    }
+
+    /**
+     * Builds the model's {@code WhoDat} object from already converted {@code modelPersons}.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    static WhoDat toWhoDat(List<Person> modelPersons) throws IllegalValueException {
+        WhoDat whoDat = new WhoDat();
+        try {
+            whoDat.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + "\n" + String.join("\n", dpe.getConflicts()));
         }
         return whoDat;
     }
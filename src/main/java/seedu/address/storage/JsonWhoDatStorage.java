@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,11 +12,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyWhoDat;
 
 /**
  * A class to access WhoDat data stored as a json file on the hard disk.
+ * The file is streamed one person at a time, so loading and saving never hold a second copy of the data.
  */
 public class JsonWhoDatStorage implements WhoDatStorage {
 
@@ -45,14 +46,16 @@ public class JsonWhoDatStorage implements WhoDatStorage {
     public Optional<ReadOnlyWhoDat> readWhoDat(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableWhoDat> jsonWhoDat = JsonUtil.readJsonFile(
-                filePath, JsonSerializableWhoDat.class);
-        if (!jsonWhoDat.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonWhoDat.get().toModelType());
+            return Optional.of(JsonWhoDatStream.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,7 +76,7 @@ public class JsonWhoDatStorage implements WhoDatStorage {
         requireNonNull(whoDat);
         requireNonNull(filePath);
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableWhoDat(whoDat), filePath);
+        JsonWhoDatStream.write(whoDat, filePath);
     }
 
 }
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes the WhoDat JSON data file one person at a time.
+ * The file has the same layout as {@link JsonSerializableWhoDat}, but neither the file contents nor the full list of
+ * {@link JsonAdaptedPerson}s is ever held in memory: each person is converted as soon as it is read or written.
+ */
+class JsonWhoDatStream {
+
+    public static final String MESSAGE_NOT_WHODAT = "Data file does not contain a WhoDat object.";
+    public static final String MESSAGE_INVALID_PERSONS = "Persons list is not a list of person objects.";
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonWhoDatStream() {}
+
+    /**
+     * Reads the WhoDat data file at {@code filePath}.
+     * Fields other than the persons list are ignored.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static WhoDat read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_WHODAT);
+            }
+
+            List<Person> persons = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readPersons(parser, persons);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return JsonSerializableWhoDat.toWhoDat(persons);
+        }
+    }
+
+    /**
+     * Converts every person object of the array at the current position of {@code parser} into {@code persons}.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons) throws IOException,
+            IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            persons.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class).toModelType());
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new IllegalValueException(MESSAGE_INVALID_PERSONS);
+        }
+    }
+
+    /**
+     * Writes {@code whoDat} to the data file at {@code filePath}, overwriting it.
+     */
+    static void write(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : whoDat.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package seedu.address.storage;
+
+/**
+ * Represents the state of the background saving of WhoDat data.
+ */
+public enum SaveStatus {
+    /** A save has been requested and is not written yet. */
+    SAVING,
+    /** Every requested save has been written. */
+    SAVED,
+    /** The latest write failed. */
+    FAILED
+}
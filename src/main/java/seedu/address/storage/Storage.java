@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -29,4 +30,29 @@ public interface Storage extends WhoDatStorage, UserPrefsStorage {
     @Override
     void saveWhoDat(ReadOnlyWhoDat whoDat) throws IOException;
 
+    /**
+     * Schedules a snapshot of {@code whoDat} to be saved on a background thread and returns immediately.
+     * Snapshots scheduled while an earlier one is still being written are coalesced into a single write.
+     */
+    void saveWhoDatInBackground(ReadOnlyWhoDat whoDat);
+
+    /**
+     * Blocks until all data scheduled by {@link #saveWhoDatInBackground(ReadOnlyWhoDat)} has been written.
+     * If the latest write failed, it is retried once.
+     *
+     * @throws IOException if the latest data could not be written.
+     */
+    void flushWhoDat() throws IOException;
+
+    /**
+     * Returns the error of the latest background save, or {@code Optional.empty()} if it succeeded.
+     */
+    Optional<IOException> getWhoDatSaveFailure();
+
+    /**
+     * Registers {@code listener} to be told of changes to the background save status.
+     * The listener may be called from a background thread and must not block.
+     */
+    void addSaveStatusListener(Consumer<SaveStatus> listener);
+
 }
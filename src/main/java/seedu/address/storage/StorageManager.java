@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private WhoDatStorage whoDatStorage;
     private UserPrefsStorage userPrefsStorage;
+    private WhoDatSaveWorker whoDatSaveWorker;
 
     /**
      * Creates a {@code StorageManager} with the given {@code WhoDatStorage} and {@code UserPrefStorage}.
@@ -26,6 +28,7 @@ public class StorageManager implements Storage {
     public StorageManager(WhoDatStorage whoDatStorage, UserPrefsStorage userPrefsStorage) {
         this.whoDatStorage = whoDatStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.whoDatSaveWorker = new WhoDatSaveWorker(whoDatStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -69,10 +72,43 @@ public class StorageManager implements Storage {
         saveWhoDat(whoDat, whoDatStorage.getWhoDatFilePath());
     }
 
+    /**
+     * Saves {@code whoDat} to {@code filePath} and waits for the write.
+     * Saves to the data file go through the background worker, so they are never overtaken by an older
+     * background save.
+     */
     @Override
     public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        whoDatStorage.saveWhoDat(whoDat, filePath);
+        if (!filePath.equals(whoDatStorage.getWhoDatFilePath())) {
+            whoDatStorage.saveWhoDat(whoDat, filePath);
+            return;
+        }
+
+        whoDatSaveWorker.submit(whoDat);
+        whoDatSaveWorker.awaitIdle();
+        whoDatSaveWorker.throwIfFailed();
+    }
+
+    @Override
+    public void saveWhoDatInBackground(ReadOnlyWhoDat whoDat) {
+        logger.fine("Scheduling background write to data file: " + whoDatStorage.getWhoDatFilePath());
+        whoDatSaveWorker.submit(whoDat);
+    }
+
+    @Override
+    public void flushWhoDat() throws IOException {
+        whoDatSaveWorker.flush();
+    }
+
+    @Override
+    public Optional<IOException> getWhoDatSaveFailure() {
+        return whoDatSaveWorker.getLastFailure();
+    }
+
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {
+        whoDatSaveWorker.addStatusListener(listener);
     }
 
 }
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyWhoDat;
+
+/**
+ * Writes snapshots of WhoDat data through a {@code WhoDatStorage} on a single background thread.
+ * Snapshots submitted while a write is in progress are coalesced: only the latest one is written next.
+ */
+class WhoDatSaveWorker {
+
+    private static final Logger logger = LogsCenter.getLogger(WhoDatSaveWorker.class);
+
+    private final WhoDatStorage whoDatStorage;
+    private final ExecutorService executor;
+    private final List<Consumer<SaveStatus>> statusListeners = new CopyOnWriteArrayList<>();
+
+    private ReadOnlyWhoDat pendingSnapshot;
+    private boolean isWriteScheduled;
+    private ReadOnlyWhoDat failedSnapshot;
+    private IOException lastFailure;
+
+    /**
+     * Creates a {@code WhoDatSaveWorker} that writes through {@code whoDatStorage}.
+     */
+    WhoDatSaveWorker(WhoDatStorage whoDatStorage) {
+        requireNonNull(whoDatStorage);
+        this.whoDatStorage = whoDatStorage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "WhoDat save worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Takes a snapshot of {@code whoDat} and schedules it to be written, replacing any snapshot still waiting.
+     * Returns without waiting for the write.
+     */
+    void submit(ReadOnlyWhoDat whoDat) {
+        requireNonNull(whoDat);
+        submitSnapshot(whoDat.snapshot());
+    }
+
+    private synchronized void submitSnapshot(ReadOnlyWhoDat snapshot) {
+        pendingSnapshot = snapshot;
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            notifyStatusListeners(SaveStatus.SAVING);
+            executor.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Writes snapshots until none is pending.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyWhoDat snapshot;
+            synchronized (this) {
+                if (pendingSnapshot == null) {
+                    isWriteScheduled = false;
+                    notifyStatusListeners(lastFailure == null ? SaveStatus.SAVED : SaveStatus.FAILED);
+                    notifyAll();
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+            }
+
+            try {
+                whoDatStorage.saveWhoDat(snapshot);
+                synchronized (this) {
+                    failedSnapshot = null;
+                    lastFailure = null;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save data in the background: " + e.getMessage());
+                synchronized (this) {
+                    failedSnapshot = snapshot;
+                    lastFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Blocks until every submitted snapshot has been written or has failed.
+     */
+    synchronized void awaitIdle() throws InterruptedIOException {
+        while (isWriteScheduled) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+            }
+        }
+    }
+
+    /**
+     * Blocks until every submitted snapshot has been written, retrying the latest snapshot once if it failed.
+     *
+     * @throws IOException if the latest snapshot could still not be written.
+     */
+    void flush() throws IOException {
+        awaitIdle();
+        synchronized (this) {
+            if (failedSnapshot == null) {
+                return;
+            }
+            submitSnapshot(failedSnapshot);
+        }
+        awaitIdle();
+        throwIfFailed();
+    }
+
+    /**
+     * Throws the error of the latest write, if it failed.
+     */
+    synchronized void throwIfFailed() throws IOException {
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Returns the error of the latest write, if it failed.
+     */
+    synchronized Optional<IOException> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    /**
+     * Registers {@code listener} to be told of every {@link SaveStatus} change.
+     * Listeners are called while the worker holds its lock, possibly from the background thread, and must not block.
+     */
+    void addStatusListener(Consumer<SaveStatus> listener) {
+        requireNonNull(listener);
+        statusListeners.add(listener);
+    }
+
+    private void notifyStatusListeners(SaveStatus status) {
+        statusListeners.forEach(listener -> listener.accept(status));
+    }
+
+}
@@ -1,8 +1,20 @@
 package seedu.address.ui;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,19 +28,46 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Looks up completions away from the FX thread, so typing is never held up by a lookup. */
+    private static final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Command completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final ContextMenu completionMenu = new ContextMenu();
+
+    /** Lookup for the latest text, if it has not finished yet. */
+    private Future<?> pendingCompletion;
+    /** Number of the latest lookup; results of earlier lookups are stale and dropped. */
+    private long latestCompletionRequest;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that offers no completions.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, prefix -> Collections.emptyList());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor},
+     * completing the word being typed from the given {@code CompletionProvider}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionProvider = completionProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestCompletions(newText);
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -49,6 +88,87 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Accepts the first completion when Tab is pressed while completions are shown.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || !completionMenu.isShowing() || completionMenu.getItems().isEmpty()) {
+            return;
+        }
+        completionMenu.getItems().get(0).fire();
+        event.consume();
+    }
+
+    /**
+     * Starts looking up completions for the last word of {@code commandText} in the background,
+     * cancelling any lookup for older text.
+     */
+    private void requestCompletions(String commandText) {
+        long request = ++latestCompletionRequest;
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(false);
+        }
+
+        String word = getWordToComplete(commandText);
+        if (word.isEmpty()) {
+            pendingCompletion = null;
+            completionMenu.hide();
+            return;
+        }
+        pendingCompletion = completionExecutor.submit(() -> {
+            List<String> completions = completionProvider.getCompletions(word);
+            Platform.runLater(() -> showCompletions(request, word, completions));
+        });
+    }
+
+    /**
+     * Shows {@code completions} of {@code word} below the command box,
+     * unless a newer lookup has been requested since.
+     */
+    private void showCompletions(long request, String word, List<String> completions) {
+        if (request != latestCompletionRequest) {
+            return;
+        }
+        pendingCompletion = null;
+        if (completions.isEmpty() || completions.equals(List.of(word))) {
+            completionMenu.hide();
+            return;
+        }
+
+        completionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> applyCompletion(completion));
+            completionMenu.getItems().add(item);
+        }
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the word being typed with {@code completion}.
+     */
+    private void applyCompletion(String completion) {
+        String commandText = commandTextField.getText();
+        String word = getWordToComplete(commandText);
+        commandTextField.setText(commandText.substring(0, commandText.length() - word.length()) + completion);
+        commandTextField.positionCaret(commandTextField.getText().length());
+        completionMenu.hide();
+    }
+
+    /**
+     * Returns the word at the end of {@code commandText}, without any prefix such as {@code c/}.
+     */
+    private static String getWordToComplete(String commandText) {
+        int start = commandText.length();
+        while (start > 0 && !Character.isWhitespace(commandText.charAt(start - 1))
+                && commandText.charAt(start - 1) != '/') {
+            start--;
+        }
+        return commandText.substring(start);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +202,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete a partially typed word. It is called off the FX thread.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns completions for {@code prefix}.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String prefix);
+    }
+
 }
@@ -118,8 +118,9 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getWhoDatFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.addSaveStatusListener(statusBarFooter::setSaveStatus);
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
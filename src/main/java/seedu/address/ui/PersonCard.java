@@ -49,7 +49,7 @@ public class PersonCard extends UiPart<Region> {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
-        studentId.setText(person.getStudentId().value);
+        studentId.setText(person.getStudentId().getValue());
         classId.setText(person.getClassId().value);
         emailId.setText(person.getEmail().toString());
         person.getTags().stream()
@@ -3,9 +3,11 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.storage.SaveStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -16,6 +18,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label saveStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,24 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code status} as the current save state. Safe to call from any thread.
+     */
+    public void setSaveStatus(SaveStatus status) {
+        Platform.runLater(() -> saveStatus.setText(toDisplayText(status)));
+    }
+
+    private static String toDisplayText(SaveStatus status) {
+        switch (status) {
+        case SAVING:
+            return "Saving\u2026";
+        case SAVED:
+            return "Saved";
+        case FAILED:
+            return "Save failed";
+        default:
+            throw new AssertionError("Unknown save status: " + status);
+        }
+    }
+
 }
@@ -39,10 +39,38 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_scriptAndCheckpoint_success() {
+        parametersStub.namedParameters.put("script", "roster.txt");
+        parametersStub.namedParameters.put("checkpoint", "500");
+        expected.setScriptPath(Paths.get("roster.txt"));
+        expected.setCheckpointInterval(500);
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidCheckpoint_savesOnlyAtEnd() {
+        parametersStub.namedParameters.put("checkpoint", "-5");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertFalse(AppParameters.parse(parametersStub).isHeadless());
+    }
+
+    @Test
+    public void parse_rawArguments_readsNamedParameters() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(AppParameters.STDIN_SCRIPT_PATH);
+        String[] args = {"--config=config.json", "--script=-", "unnamed", "--=ignored", "-x=ignored"};
+        assertEquals(expected, AppParameters.parse(args));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +94,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
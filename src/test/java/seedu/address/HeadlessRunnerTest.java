@@ -0,0 +1,133 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonWhoDatStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private int saveCount;
+    private StorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonWhoDatStorage whoDatStorage = new JsonWhoDatStorage(temporaryFolder.resolve("whodat.json")) {
+            @Override
+            public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+                saveCount++;
+                super.saveWhoDat(whoDat, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(whoDatStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(logic, -1));
+    }
+
+    @Test
+    public void run_validScript_savesOnceAtEnd() throws Exception {
+        String script = "# roster\n"
+                + PersonUtil.getAddCommand(AMY) + "\n"
+                + "\n"
+                + PersonUtil.getAddCommand(BOB) + "\n";
+
+        int failureCount = run(new HeadlessRunner(logic, 0), script);
+
+        assertEquals(0, failureCount);
+        assertEquals(1, saveCount);
+        assertEquals(model.getWhoDat(), new WhoDat(storage.readWhoDat().get()));
+        List<String> lines = getOutputLines();
+        assertEquals(3, lines.size());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)), lines.get(0));
+        assertEquals(String.format(HeadlessRunner.MESSAGE_SUMMARY, 2, 0), lines.get(2));
+    }
+
+    @Test
+    public void run_failingCommands_reportedWithLineNumbers() throws Exception {
+        String script = PersonUtil.getAddCommand(AMY) + "\n"
+                + "unknownCommand\n"
+                + PersonUtil.getAddCommand(AMY) + "\n";
+
+        int failureCount = run(new HeadlessRunner(logic, 0), script);
+
+        assertEquals(2, failureCount);
+        assertEquals(1, model.getWhoDat().getPersonList().size());
+        List<String> lines = getOutputLines();
+        assertEquals(String.format(HeadlessRunner.MESSAGE_COMMAND_FAILED, 2, MESSAGE_UNKNOWN_COMMAND), lines.get(1));
+        assertEquals(String.format(HeadlessRunner.MESSAGE_COMMAND_FAILED, 3, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                lines.get(2));
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtEachCheckpoint() throws Exception {
+        String script = PersonUtil.getAddCommand(AMY) + "\n"
+                + "list\n"
+                + PersonUtil.getAddCommand(BOB) + "\n"
+                + "list\n"
+                + "list\n";
+
+        run(new HeadlessRunner(logic, 2), script);
+
+        // saved after the 2nd and 4th commands; nothing changed after that, so the final save is skipped
+        assertEquals(2, saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        String script = ExitCommand.COMMAND_WORD + "\n" + PersonUtil.getAddCommand(AMY) + "\n";
+
+        int failureCount = run(new HeadlessRunner(logic, 0), script);
+
+        assertEquals(0, failureCount);
+        assertTrue(model.getWhoDat().getPersonList().isEmpty());
+        assertEquals(String.format(HeadlessRunner.MESSAGE_SUMMARY, 1, 0), getOutputLines().get(1));
+    }
+
+    private int run(HeadlessRunner runner, String script) throws IOException {
+        return runner.run(new BufferedReader(new StringReader(script)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
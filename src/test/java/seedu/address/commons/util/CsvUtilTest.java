@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_unquotedFields_splitAtCommas() {
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.splitLine("a, b ,,c"));
+        assertEquals(List.of("a", ""), CsvUtil.splitLine("a,"));
+    }
+
+    @Test
+    public void splitLine_quotedFields_keepCommasAndQuotes() {
+        assertEquals(List.of("Lai, Joshua", "A1234567S"), CsvUtil.splitLine("\"Lai, Joshua\",A1234567S"));
+        assertEquals(List.of("say \"hi\"", ""), CsvUtil.splitLine("\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitLine_malformedQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.splitLine("\"unclosed,a"));
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.splitLine("\"closed\"extra,a"));
+    }
+}
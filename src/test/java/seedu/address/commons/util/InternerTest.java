@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>(null));
+    }
+
+    @Test
+    public void intern_sameKey_sameInstance() {
+        Interner<StringBuilder> interner = new Interner<>(StringBuilder::new);
+        StringBuilder first = interner.intern("key");
+
+        assertSame(first, interner.intern("key"));
+        assertNotSame(first, interner.intern("other"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        Interner<Integer> interner = new Interner<>(Integer::valueOf);
+
+        assertThrows(NumberFormatException.class, () -> interner.intern("not a number"));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<>(StringBuilder::new).intern(null));
+    }
+}
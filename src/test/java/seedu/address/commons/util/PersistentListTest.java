@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_noElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void copyOf_elements_sameOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list);
+        assertEquals("d", list.get(3));
+    }
+
+    @Test
+    public void withPlusMinus_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "x", "c"), original.with(1, "x"));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), original.plus("d"));
+        assertEquals(Arrays.asList("a", "c"), original.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertThrows(IndexOutOfBoundsException.class, () -> original.with(3, "x"));
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.copyOf(expected);
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                expected.add(-i);
+                list = list.plus(-i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expectedVersions, versions);
+    }
+}
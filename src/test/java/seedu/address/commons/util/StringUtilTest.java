@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,30 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for boundedEditDistance --------------------------------------
+
+    @Test
+    public void boundedEditDistance_withinBound_returnsDistance() {
+        assertEquals(0, StringUtil.boundedEditDistance("alice", "alice", 0));
+        assertEquals(1, StringUtil.boundedEditDistance("alice", "alic", 2)); // deletion
+        assertEquals(1, StringUtil.boundedEditDistance("alice", "aliced", 2)); // insertion
+        assertEquals(1, StringUtil.boundedEditDistance("alice", "alide", 2)); // substitution
+        assertEquals(2, StringUtil.boundedEditDistance("alice", "alcie", 2)); // transposition
+        assertEquals(2, StringUtil.boundedEditDistance("", "ab", 2));
+    }
+
+    @Test
+    public void boundedEditDistance_beyondBound_returnsBoundPlusOne() {
+        assertEquals(1, StringUtil.boundedEditDistance("alice", "alide", 0));
+        assertEquals(3, StringUtil.boundedEditDistance("alice", "bob", 2));
+        assertEquals(2, StringUtil.boundedEditDistance("alice", "alicexyz", 1));
+    }
+
+    @Test
+    public void boundedEditDistance_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.boundedEditDistance("a", "b", -1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
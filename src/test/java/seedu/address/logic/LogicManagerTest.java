@@ -1,7 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_STUDENTID;
+import static seedu.address.logic.Messages.MESSAGE_PERSON_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.CLASS_ID_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_ID_DESC_AMY;
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyWhoDat;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.WhoDat;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonWhoDatStorage;
@@ -41,6 +43,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +51,7 @@ public class LogicManagerTest {
         JsonWhoDatStorage addressBookStorage =
                 new JsonWhoDatStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -61,7 +64,12 @@ public class LogicManagerTest {
     @Test
     public void execute_commandExecutionError_throwsCommandException() {
         String deleteCommand = "delete A0000011J";
-        assertCommandException(deleteCommand, MESSAGE_INVALID_PERSON_DISPLAYED_STUDENTID);
+        assertCommandException(deleteCommand, String.format(MESSAGE_PERSON_NOT_FOUND, "A0000011J"));
+    }
+
+    @Test
+    public void getWhoDatFilePath_returnsStorageDataFile() {
+        assertEquals(temporaryFolder.resolve("addressBook.json"), logic.getWhoDatFilePath());
     }
 
     @Test
@@ -71,17 +79,67 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsFailureAfterResult() throws Exception {
+        assertSaveFailureFromStorageReported(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsFailureAfterResult() throws Exception {
+        assertSaveFailureFromStorageReported(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void getCompletions_personInModel_returnsCompletions() {
+        model.addPerson(AMY);
+        assertEquals(List.of("Amy"), logic.getCompletions("am"));
+        assertEquals(List.of(), logic.getCompletions("zz"));
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotSave() throws Exception {
+        int[] saveCount = {0};
+        JsonWhoDatStorage countingStorage = new JsonWhoDatStorage(temporaryFolder.resolve("counting.json")) {
+            @Override
+            public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveWhoDat(whoDat, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(countingStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // data file does not exist yet, so the first command creates it
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushWhoDat();
+        assertEquals(1, saveCount[0]);
+
+        // nothing changed since the last save
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushWhoDat();
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENT_ID_DESC_AMY
+                + EMAIL_ID_DESC_AMY + CLASS_ID_DESC_AMY);
+        storage.flushWhoDat();
+        assertEquals(2, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushWhoDat();
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_mutatingCommand_savedInBackground() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENT_ID_DESC_AMY
+                + EMAIL_ID_DESC_AMY + CLASS_ID_DESC_AMY);
+        storage.flushWhoDat();
+
+        assertEquals(model.getWhoDat(), new WhoDat(storage.readWhoDat().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -142,11 +200,14 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Saving happens in the background, so the failure is reported by the command after the one that failed to save,
+     * after that command's own result.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedSaveFailureMessage the save failure message expected after the next command's result
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureFromStorageReported(IOException e, String expectedSaveFailureMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an WhoDatStorage that throws the IOException e when saving
@@ -160,7 +221,7 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -170,6 +231,9 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertThrows(IOException.class, () -> storage.flushWhoDat());
+        assertCommandSuccess(ListCommand.COMMAND_WORD,
+                ListCommand.MESSAGE_SUCCESS + "\n" + expectedSaveFailureMessage, expectedModel);
     }
 }
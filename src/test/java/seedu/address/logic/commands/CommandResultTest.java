@@ -52,6 +52,12 @@ public class CommandResultTest {
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
 
+    @Test
+    public void withExtraFeedback_appendsLineAndKeepsFlags() {
+        CommandResult commandResult = new CommandResult("feedback", true, true);
+        assertEquals(new CommandResult("feedback\nextra", true, true), commandResult.withExtraFeedback("extra"));
+    }
+
     @Test
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -3,9 +3,11 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
 import static seedu.address.testutil.TypicalStudentIds.STUDENT_ID_FIRST_PERSON;
 import static seedu.address.testutil.TypicalStudentIds.STUDENT_ID_SECOND_PERSON;
@@ -70,6 +72,32 @@ public class DeleteCommandTest {
     }
 
 
+    @Test
+    public void execute_studentIdOutsideFilteredList_success() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        Person personToDelete = model.findByStudentId(BENSON.getStudentId()).get();
+        assertFalse(model.getFilteredPersonList().contains(personToDelete));
+        DeleteCommand deleteCommand = new DeleteCommand(BENSON.getStudentId());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(personToDelete));
+
+        Model expectedModel = new ModelManager(model.getWhoDat(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_nonExistentStudentId_failure() {
+        StudentId nonExistentStudentId = new StudentId("A7654321Z");
+        DeleteCommand deleteCommand = new DeleteCommand(nonExistentStudentId);
+        assertCommandFailure(deleteCommand, model,
+                String.format(Messages.MESSAGE_PERSON_NOT_FOUND, nonExistentStudentId));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(STUDENT_ID_FIRST_PERSON);
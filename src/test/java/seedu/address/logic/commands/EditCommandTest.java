@@ -45,8 +45,7 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
 
         Model expectedModel = new ModelManager(new WhoDat(model.getWhoDat()), new UserPrefs());
-        Person firstPerson = EditCommand.findPersonByStudentId(model.getFilteredPersonList(),
-                STUDENT_ID_FIRST_PERSON.value);
+        Person firstPerson = model.findByStudentId(STUDENT_ID_FIRST_PERSON).get();
         expectedModel.setPerson(firstPerson, editedPerson);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -77,8 +76,7 @@ public class EditCommandTest {
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditCommand editCommand = new EditCommand(STUDENT_ID_FIRST_PERSON, new EditPersonDescriptor());
-        Person personToEdit = EditCommand.findPersonByStudentId(model.getFilteredPersonList(),
-                STUDENT_ID_FIRST_PERSON.value);
+        Person personToEdit = model.findByStudentId(STUDENT_ID_FIRST_PERSON).get();
         Person editedPerson = personToEdit; // No fields edited, so it's the same person
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
@@ -102,9 +100,12 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
 
         Model expectedModel = new ModelManager(new WhoDat(model.getWhoDat()), new UserPrefs());
+        showPersonAtIndex(expectedModel, Index.fromOneBased(1));
         expectedModel.setPerson(personInFilteredList, editedPerson);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        // the filter is kept, and the renamed person no longer matches it
+        assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
     @Test
@@ -126,25 +127,45 @@ public class EditCommandTest {
         EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
         EditCommand editCommand = new EditCommand(nonExistentStudentId, descriptor);
 
-        assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_STUDENTID);
+        assertCommandFailure(editCommand, model,
+                String.format(Messages.MESSAGE_PERSON_NOT_FOUND, nonExistentStudentId));
     }
 
     /**
      * Edit where student ID doesn't exist in filtered list but exists in contact list
      */
     @Test
-    public void execute_invalidStudentIdFilteredList_failure() {
+    public void execute_studentIdOutsideFilteredList_success() {
         showPersonAtIndex(model, Index.fromOneBased(1));
 
-        // Find a student ID that doesn't exist in the filtered list but exists in the contact list
-        String studentIdOutsideFilteredList = model.getWhoDat().getPersonList().get(1).getStudentId().value;
-        StudentId studentIdNotInFilteredList = new StudentId(studentIdOutsideFilteredList);
+        // A person hidden by the current filter can still be addressed by student ID
+        Person personOutsideFilteredList = model.getWhoDat().getPersonList().get(1);
+        assertFalse(model.getFilteredPersonList().contains(personOutsideFilteredList));
 
-        EditCommand editCommand = new EditCommand(studentIdNotInFilteredList,
+        Person editedPerson = new PersonBuilder(personOutsideFilteredList).withName(VALID_NAME_BOB).build();
+        EditCommand editCommand = new EditCommand(personOutsideFilteredList.getStudentId(),
                 new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build());
 
-        // Should fail because we're trying to edit a person that isn't in the filtered list
-        assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_STUDENTID);
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
+
+        Model expectedModel = new ModelManager(new WhoDat(model.getWhoDat()), new UserPrefs());
+        showPersonAtIndex(expectedModel, Index.fromOneBased(1));
+        expectedModel.setPerson(personOutsideFilteredList, editedPerson);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emailIdOfOtherPerson_failure() {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        Person secondPerson = model.getFilteredPersonList().get(1);
+
+        // Keeping the student ID but taking another person's email ID should fail
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withEmail(firstPerson.getEmail().getValue()).build();
+        EditCommand editCommand = new EditCommand(secondPerson.getStudentId(), descriptor);
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
     @Test
@@ -177,7 +198,7 @@ public class EditCommandTest {
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         EditCommand editCommand = new EditCommand(STUDENT_ID_FIRST_PERSON, editPersonDescriptor);
         String expected = EditCommand.class.getCanonicalName() + "{student ID="
-                + STUDENT_ID_FIRST_PERSON.value + ", editPersonDescriptor="
+                + STUDENT_ID_FIRST_PERSON.getValue() + ", editPersonDescriptor="
                 + editPersonDescriptor + "}";
         assertEquals(expected, editCommand.toString());
     }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FuzzyNameMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.StudentIdMatchPredicate;
@@ -89,6 +91,25 @@ public class FindCommandTest {
     }
 
 
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5);
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Arrays.asList("Meyer", "Kurz"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate, predicate.getRanking());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // exact matches keep their list order, ahead of names one edit away
+        assertEquals(Arrays.asList(CARL, ELLE, BENSON, DANIEL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod_fuzzy() {
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Arrays.asList("keyword"));
+        FindCommand findCommand = new FindCommand(predicate);
+        String expected = FindCommand.class.getCanonicalName() + "{fuzzy predicate=" + predicate + "}";
+        assertEquals(expected, findCommand.toString());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "Name,Student ID,Email ID,Class ID,Tags";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        Path file = writeCsv(HEADER,
+                "Joshua Lai,A2345678S,E1234567,cs1231-05,NeedHelp LateSubmission",
+                "",
+                "\"Tan Mei Ling\",A7654321B,E7654321,\"cs2103t-01, T2\",");
+        Model expectedModel = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+        expectedModel.addPerson(new PersonBuilder().withName("Joshua Lai").withStudentId("A2345678S")
+                .withEmailId("E1234567").withClassId("cs1231-05").withTags("NeedHelp", "LateSubmission").build());
+        expectedModel.addPerson(new PersonBuilder().withName("Tan Mei Ling").withStudentId("A7654321B")
+                .withEmailId("E7654321").withClassId("cs2103t-01, T2").withTags().build());
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, file);
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_columnsInAnyOrder_imported() throws Exception {
+        Path file = writeCsv("\uFEFFclass_id, email id,NAME,student id",
+                "cs1231-05,E1234567,Joshua Lai,A2345678S");
+        Model expectedModel = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+        expectedModel.addPerson(new PersonBuilder().withName("Joshua Lai").withStudentId("A2345678S")
+                .withEmailId("E1234567").withClassId("cs1231-05").withTags().build());
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, file);
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        Path file = writeCsv(HEADER,
+                "Joshua Lai,A2345678S,E1234567,cs1231-05,",
+                "Bad Id,A12,E7654321,cs1231-05,",
+                "Alice Again," + ALICE.getStudentId() + ",E7777777,cs1231-05,",
+                "Joshua Twin,A7654321B,E1234567,cs1231-05,",
+                "Too,Few,Fields");
+        Model expectedModel = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+        expectedModel.addPerson(new PersonBuilder().withName("Joshua Lai").withStudentId("A2345678S")
+                .withEmailId("E1234567").withClassId("cs1231-05").withTags().build());
+
+        String expectedMessage = String.join("\n",
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, file),
+                String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 4),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, StudentId.MESSAGE_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_IN_FILE, 2)),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 5, 3)));
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_blankRows_countedInRowNumbers() throws Exception {
+        Path file = writeCsv(HEADER,
+                "",
+                "  ",
+                "Bad Id,A12,E7654321,cs1231-05,");
+        Model expectedModel = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+
+        String expectedMessage = String.join("\n",
+                String.format(ImportCommand.MESSAGE_SUCCESS, 0, file),
+                String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 1),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, StudentId.MESSAGE_CONSTRAINTS));
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyRows_addedWithSingleChangeAndUndoneAtOnce() throws Exception {
+        int rowCount = 2000;
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < rowCount; i++) {
+            lines.add(String.format("Student %s,A%07dZ,E%07d,cs1231-%02d,Tag%d", toLetters(i), i, 1000000 + i, i % 20,
+                    i % 7));
+        }
+        Path file = writeCsv(lines.toArray(new String[0]));
+        int originalSize = model.getWhoDat().getPersonList().size();
+        int[] changeCount = {0};
+        model.getWhoDat().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        new ImportCommand(file).execute(model);
+
+        assertEquals(originalSize + rowCount, model.getWhoDat().getPersonList().size());
+        assertEquals(1, changeCount[0]);
+        model.undoWhoDat();
+        assertEquals(originalSize, model.getWhoDat().getPersonList().size());
+        assertFalse(model.canUndoWhoDat());
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path file = writeCsv("Name,Student ID,Email ID", "Joshua Lai,A2345678S,E1234567");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, "name, student id, email id, class id"));
+        assertCommandFailure(new ImportCommand(writeCsv()), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, "name, student id, email id, class id"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_READ_ERROR, file, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("roster.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("roster.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(1));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path path = Paths.get("roster.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + path + "}";
+        assertEquals(expected, new ImportCommand(path).toString());
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("roster" + lines.length + ".csv");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
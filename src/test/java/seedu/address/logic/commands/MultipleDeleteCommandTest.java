@@ -1,14 +1,27 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.StudentId;
+
 public class MultipleDeleteCommandTest {
 
+    private Model model = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+
     @Test
     public void test_getCombinedStringFromListOfString_getCombinedString() {
         List<String> input = new LinkedList<>();
@@ -21,4 +34,38 @@ public class MultipleDeleteCommandTest {
         expected = "Hello, Hello1, Hello2";
         assertEquals(expected, MultipleDeleteCommand.getCombinedStringFromListOfString(input));
     }
+
+    @Test
+    public void execute_existingStudentIds_deletesAll() {
+        StudentId[] studentIds = {ALICE.getStudentId(), BENSON.getStudentId()};
+        MultipleDeleteCommand command = new MultipleDeleteCommand(studentIds, Collections.emptyList());
+
+        String expectedMessage = "Deleted Students(Student ID): " + ALICE.getStudentId() + ", "
+                + BENSON.getStudentId() + "\n"
+                + "Students not found(Student ID): \n"
+                + "Invalid Student ID(s): ";
+
+        Model expectedModel = new ModelManager(model.getWhoDat(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingAndInvalidStudentIds_reportsThem() {
+        StudentId missingStudentId = new StudentId("A7654321Z");
+        StudentId[] studentIds = {missingStudentId, ALICE.getStudentId()};
+        MultipleDeleteCommand command = new MultipleDeleteCommand(studentIds, Arrays.asList("A123"));
+
+        String expectedMessage = "Deleted Students(Student ID): " + ALICE.getStudentId() + "\n"
+                + "Students not found(Student ID): " + missingStudentId + "\n"
+                + "Invalid Student ID(s): A123\n"
+                + MultipleDeleteCommand.MESSAGE_USAGE;
+
+        Model expectedModel = new ModelManager(model.getWhoDat(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TermQuery;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        Query firstQuery = new TermQuery(new StudentHasSameTagPredicate(new Tag("NeedHelp")));
+        Query secondQuery = new NotQuery(firstQuery);
+
+        QueryCommand firstCommand = new QueryCommand(firstQuery);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(firstQuery)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new QueryCommand(secondQuery)));
+    }
+
+    @Test
+    public void execute_classAndTagButNotName_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        Query query = new AndQuery(List.of(
+                new TermQuery(new StudentHasSameClassIdPredicate(new ClassId("CS1101-01"))),
+                new TermQuery(new StudentHasSameTagPredicate(new Tag("NeedHelp"))),
+                new NotQuery(new TermQuery(new NameContainsKeywordsPredicate(List.of("meier"))))));
+        QueryCommand command = new QueryCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new TermQuery(new StudentHasSameTagPredicate(new Tag("NeedHelp")));
+        QueryCommand queryCommand = new QueryCommand(query);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, queryCommand.toString());
+    }
+}
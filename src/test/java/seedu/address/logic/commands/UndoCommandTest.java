@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+import static seedu.address.testutil.TypicalStudentIds.STUDENT_ID_FIRST_PERSON;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.WhoDat;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalWhoDat(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterClear_restoresContactList() {
+        model.setWhoDat(new WhoDat());
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_afterSeveralChanges_undoesOneAtATime() {
+        model.deletePerson(ALICE);
+        model.deletePersons(Arrays.asList(STUDENT_ID_FIRST_PERSON, BENSON.getStudentId()));
+
+        expectedModel.deletePerson(ALICE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.setWhoDat(getTypicalWhoDat());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_historyDepthZero_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        Model modelWithoutHistory = new ModelManager(getTypicalWhoDat(), userPrefs);
+        modelWithoutHistory.deletePerson(ALICE);
+
+        assertCommandFailure(new UndoCommand(), modelWithoutHistory, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+}
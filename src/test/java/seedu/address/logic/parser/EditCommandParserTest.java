@@ -59,7 +59,7 @@ public class EditCommandParserTest {
         assertParseFailure(parser, VALID_NAME_AMY, MESSAGE_INVALID_FORMAT);
 
         // no field specified
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value, EditCommand.MESSAGE_NOT_EDITED);
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue(), EditCommand.MESSAGE_NOT_EDITED);
 
         // no student ID and no field specified
         assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
@@ -79,38 +79,38 @@ public class EditCommandParserTest {
 
     @Test
     public void parse_invalidValue_failure() {
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_NAME_DESC,
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_NAME_DESC,
                 Name.MESSAGE_CONSTRAINTS); // invalid name
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_STUDENT_ID_DESC,
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_STUDENT_ID_DESC,
                 StudentId.MESSAGE_CONSTRAINTS); // invalid student ID
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_EMAIL_ID_DESC,
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_EMAIL_ID_DESC,
                 EmailId.MESSAGE_CONSTRAINTS); // invalid email
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_ADDRESS_DESC,
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_ADDRESS_DESC,
                 ClassId.MESSAGE_CONSTRAINTS); // invalid class ID
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_TAG_DESC,
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_TAG_DESC,
                 Tag.MESSAGE_CONSTRAINTS); // invalid tag
 
         // invalid student ID followed by valid email
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_STUDENT_ID_DESC + EMAIL_ID_DESC_AMY,
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_STUDENT_ID_DESC + EMAIL_ID_DESC_AMY,
                 StudentId.MESSAGE_CONSTRAINTS);
 
         // while parsing {@code PREFIX_TAG} alone will reset the tags of the {@code Person} being edited,
         // parsing it together with a valid tag results in error
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue()
                 + TAG_DESC_FRIEND + TAG_DESC_HUSBAND + TAG_EMPTY, Tag.MESSAGE_CONSTRAINTS);
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue()
                 + TAG_DESC_FRIEND + TAG_EMPTY + TAG_DESC_HUSBAND, Tag.MESSAGE_CONSTRAINTS);
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue()
                 + TAG_EMPTY + TAG_DESC_FRIEND + TAG_DESC_HUSBAND, Tag.MESSAGE_CONSTRAINTS);
 
         // multiple invalid values, but only the first invalid value is captured
-        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.value + INVALID_NAME_DESC
+        assertParseFailure(parser, STUDENT_ID_FIRST_PERSON.getValue() + INVALID_NAME_DESC
                 + INVALID_EMAIL_ID_DESC + VALID_CLASS_ID_AMY + VALID_STUDENT_ID_AMY, Name.MESSAGE_CONSTRAINTS);
     }
 
     @Test
     public void parse_allFieldsSpecified_success() {
-        String userInput = STUDENT_ID_SECOND_PERSON.value + STUDENT_ID_DESC_BOB + TAG_DESC_HUSBAND
+        String userInput = STUDENT_ID_SECOND_PERSON.getValue() + STUDENT_ID_DESC_BOB + TAG_DESC_HUSBAND
                 + EMAIL_ID_DESC_AMY + CLASS_ID_DESC_AMY + NAME_DESC_AMY + TAG_DESC_FRIEND;
 
         EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_AMY)
@@ -123,7 +123,7 @@ public class EditCommandParserTest {
 
     @Test
     public void parse_someFieldsSpecified_success() {
-        String userInput = STUDENT_ID_FIRST_PERSON.value + STUDENT_ID_DESC_BOB + EMAIL_ID_DESC_AMY;
+        String userInput = STUDENT_ID_FIRST_PERSON.getValue() + STUDENT_ID_DESC_BOB + EMAIL_ID_DESC_AMY;
 
         EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withStudentId(VALID_STUDENT_ID_BOB)
                 .withEmail(VALID_EMAIL_ID_AMY).build();
@@ -135,31 +135,31 @@ public class EditCommandParserTest {
     @Test
     public void parse_oneFieldSpecified_success() {
         // name
-        String userInput = STUDENT_ID_THIRD_PERSON.value + NAME_DESC_AMY;
+        String userInput = STUDENT_ID_THIRD_PERSON.getValue() + NAME_DESC_AMY;
         EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_AMY).build();
         EditCommand expectedCommand = new EditCommand(STUDENT_ID_THIRD_PERSON, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
         // student ID
-        userInput = STUDENT_ID_THIRD_PERSON.value + STUDENT_ID_DESC_AMY;
+        userInput = STUDENT_ID_THIRD_PERSON.getValue() + STUDENT_ID_DESC_AMY;
         descriptor = new EditPersonDescriptorBuilder().withStudentId(VALID_STUDENT_ID_AMY).build();
         expectedCommand = new EditCommand(STUDENT_ID_THIRD_PERSON, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
         // email
-        userInput = STUDENT_ID_THIRD_PERSON.value + EMAIL_ID_DESC_AMY;
+        userInput = STUDENT_ID_THIRD_PERSON.getValue() + EMAIL_ID_DESC_AMY;
         descriptor = new EditPersonDescriptorBuilder().withEmail(VALID_EMAIL_ID_AMY).build();
         expectedCommand = new EditCommand(STUDENT_ID_THIRD_PERSON, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
         // class ID
-        userInput = STUDENT_ID_THIRD_PERSON.value + CLASS_ID_DESC_AMY;
+        userInput = STUDENT_ID_THIRD_PERSON.getValue() + CLASS_ID_DESC_AMY;
         descriptor = new EditPersonDescriptorBuilder().withClassId(VALID_CLASS_ID_AMY).build();
         expectedCommand = new EditCommand(STUDENT_ID_THIRD_PERSON, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
         // tags
-        userInput = STUDENT_ID_THIRD_PERSON.value + TAG_DESC_FRIEND;
+        userInput = STUDENT_ID_THIRD_PERSON.getValue() + TAG_DESC_FRIEND;
         descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_FRIEND).build();
         expectedCommand = new EditCommand(STUDENT_ID_THIRD_PERSON, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -171,17 +171,17 @@ public class EditCommandParserTest {
         // AddCommandParserTest#parse_repeatedNonTagValue_failure()
 
         // valid followed by invalid
-        String userInput = STUDENT_ID_FIRST_PERSON.value + INVALID_STUDENT_ID_DESC + STUDENT_ID_DESC_BOB;
+        String userInput = STUDENT_ID_FIRST_PERSON.getValue() + INVALID_STUDENT_ID_DESC + STUDENT_ID_DESC_BOB;
 
         assertParseFailure(parser, userInput, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_STUDENT_ID));
 
         // invalid followed by valid
-        userInput = STUDENT_ID_FIRST_PERSON.value + STUDENT_ID_DESC_BOB + INVALID_STUDENT_ID_DESC;
+        userInput = STUDENT_ID_FIRST_PERSON.getValue() + STUDENT_ID_DESC_BOB + INVALID_STUDENT_ID_DESC;
 
         assertParseFailure(parser, userInput, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_STUDENT_ID));
 
         // multiple valid fields repeated
-        userInput = STUDENT_ID_FIRST_PERSON.value + STUDENT_ID_DESC_AMY + CLASS_ID_DESC_AMY + EMAIL_ID_DESC_AMY
+        userInput = STUDENT_ID_FIRST_PERSON.getValue() + STUDENT_ID_DESC_AMY + CLASS_ID_DESC_AMY + EMAIL_ID_DESC_AMY
                 + TAG_DESC_FRIEND + STUDENT_ID_DESC_AMY + CLASS_ID_DESC_AMY + EMAIL_ID_DESC_AMY + TAG_DESC_FRIEND
                 + STUDENT_ID_DESC_BOB + CLASS_ID_DESC_BOB + EMAIL_ID_DESC_BOB + TAG_DESC_HUSBAND;
 
@@ -189,7 +189,7 @@ public class EditCommandParserTest {
                 Messages.getErrorMessageForDuplicatePrefixes(PREFIX_STUDENT_ID, PREFIX_EMAIL_ID, PREFIX_CLASS_ID));
 
         // multiple invalid values
-        userInput = STUDENT_ID_FIRST_PERSON.value + INVALID_STUDENT_ID_DESC + INVALID_ADDRESS_DESC
+        userInput = STUDENT_ID_FIRST_PERSON.getValue() + INVALID_STUDENT_ID_DESC + INVALID_ADDRESS_DESC
                 + INVALID_EMAIL_ID_DESC + INVALID_STUDENT_ID_DESC + INVALID_ADDRESS_DESC + INVALID_EMAIL_ID_DESC;
 
         assertParseFailure(parser, userInput,
@@ -198,7 +198,7 @@ public class EditCommandParserTest {
 
     @Test
     public void parse_resetTags_success() {
-        String userInput = STUDENT_ID_THIRD_PERSON.value + TAG_EMPTY;
+        String userInput = STUDENT_ID_THIRD_PERSON.getValue() + TAG_EMPTY;
 
         EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags().build();
         EditCommand expectedCommand = new EditCommand(STUDENT_ID_THIRD_PERSON, descriptor);
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.FuzzyNameMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.StudentIdMatchPredicate;
@@ -33,6 +34,16 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new FuzzyNameMatchPredicate(Arrays.asList("Alcie", "Bbo")));
+        assertParseSuccess(parser, " --fuzzy  Alcie \t Bbo", expectedFindCommand);
+
+        assertParseFailure(parser, "--fuzzy ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_caseInsensitiveArgs_returnsFindCommand() {
         FindCommand expectedFindCommand = new FindCommand(new StudentIdMatchPredicate(new StudentId("A1234567Z")));
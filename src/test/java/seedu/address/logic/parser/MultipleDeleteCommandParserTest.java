@@ -1,7 +1,7 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -10,7 +10,6 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.MultipleDeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.StudentId;
@@ -33,7 +32,6 @@ public class MultipleDeleteCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsMultipleDeleteCommand() {
-        // Note that multiple-delete consists of multiple delete commands executing
         String validStudentIdString1 = "A1234567H";
         StudentId validStudentId1 = new StudentId(validStudentIdString1);
         String validStudentIdString2 = "A2234567H";
@@ -44,33 +42,28 @@ public class MultipleDeleteCommandParserTest {
 
         // all valid
         String input = " " + validStudentIdString1 + "," + validStudentIdString2;
-        DeleteCommand[] expected = new DeleteCommand[]{new DeleteCommand(validStudentId1),
-            new DeleteCommand(validStudentId2)};
+        StudentId[] expected = new StudentId[]{validStudentId1, validStudentId2};
         assertValidArgs(expected, input);
 
         input = " " + validStudentIdString1 + ",";
-        expected = new DeleteCommand[]{new DeleteCommand(validStudentId1)};
+        expected = new StudentId[]{validStudentId1};
         assertValidArgs(expected, input);
 
         // half valid, half invalid
         input = " " + validStudentIdString1 + "," + invalidStudentIdString1;
-        expected = new DeleteCommand[]{new DeleteCommand(validStudentId1)};
+        expected = new StudentId[]{validStudentId1};
         assertValidArgs(expected, input);
 
         // all invalid
         input = invalidStudentIdString1 + "," + invalidStudentIdString2;
-        expected = new DeleteCommand[]{};
+        expected = new StudentId[]{};
         assertValidArgs(expected, input);
     }
 
-    private void assertValidArgs(DeleteCommand[] expected, String testInput) {
+    private void assertValidArgs(StudentId[] expected, String testInput) {
         try {
             MultipleDeleteCommand actualMultipleDeleteCommandOutput = parser.parse(testInput);
-            DeleteCommand[] deleteCommands = actualMultipleDeleteCommandOutput.getDeleteCommandsToExecute();
-            assertTrue(deleteCommands.length == expected.length);
-            for (int i = 0; i < deleteCommands.length; i++) {
-                assertTrue(expected[i].equals(deleteCommands[i]));
-            }
+            assertArrayEquals(expected, actualMultipleDeleteCommandOutput.getStudentIdsToDelete());
         } catch (ParseException pe) {
             fail();
         }
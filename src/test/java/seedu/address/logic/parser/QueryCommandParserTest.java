@@ -0,0 +1,95 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.StudentIdMatchPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TermQuery;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final Query CLASS_TERM =
+            new TermQuery(new StudentHasSameClassIdPredicate(new ClassId("CS2103T-01")));
+    private static final Query TAG_TERM = new TermQuery(new StudentHasSameTagPredicate(new Tag("NeedHelp")));
+    private static final Query NAME_TERM = new TermQuery(new NameContainsKeywordsPredicate(List.of("john")));
+    private static final Query ID_TERM = new TermQuery(new StudentIdMatchPredicate(new StudentId("A1234567Z")));
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleTerm_returnsQueryCommand() {
+        assertParseSuccess(parser, " class:CS2103T-01 ", new QueryCommand(CLASS_TERM));
+        assertParseSuccess(parser, "ID:a1234567z", new QueryCommand(ID_TERM));
+    }
+
+    @Test
+    public void parse_turkishDefaultLocale_fieldsAndIdsIgnoreCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertParseSuccess(parser, "ID:a1234567z", new QueryCommand(ID_TERM));
+            assertParseSuccess(parser, "id:a1234567i", new QueryCommand(
+                    new TermQuery(new StudentIdMatchPredicate(new StudentId("A1234567I")))));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void parse_operators_notBindsTighterThanAndThanOr() {
+        // AND chain with NOT
+        assertParseSuccess(parser, "class:CS2103T-01 AND tag:NeedHelp and not name:john",
+                new QueryCommand(new AndQuery(List.of(CLASS_TERM, TAG_TERM, new NotQuery(NAME_TERM)))));
+
+        // AND before OR
+        assertParseSuccess(parser, "class:CS2103T-01 AND tag:NeedHelp OR id:A1234567Z",
+                new QueryCommand(new OrQuery(List.of(new AndQuery(List.of(CLASS_TERM, TAG_TERM)), ID_TERM))));
+
+        // parentheses group
+        assertParseSuccess(parser, "class:CS2103T-01 AND (tag:NeedHelp OR id:A1234567Z)",
+                new QueryCommand(new AndQuery(List.of(CLASS_TERM, new OrQuery(List.of(TAG_TERM, ID_TERM))))));
+
+        // double negation and parentheses without spaces
+        assertParseSuccess(parser, "NOT NOT(name:john)", new QueryCommand(new NotQuery(new NotQuery(NAME_TERM))));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "class:CS2103T-01 AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "class:CS2103T-01 tag:NeedHelp", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(class:CS2103T-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "class:CS2103T-01)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "john", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTerm_throwsParseException() {
+        assertParseFailure(parser, "email:E1234567",
+                String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "email"));
+        assertParseFailure(parser, "tag:Need-Help", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "id:1234567", StudentId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "name:j0hn", Name.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -7,8 +7,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_ID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,9 +22,12 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ClassId;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class ClassIdBookTest {
@@ -78,6 +86,181 @@ public class ClassIdBookTest {
         assertTrue(whoDat.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_mutations_incrementsVersion() {
+        long initialVersion = whoDat.getVersion();
+        whoDat.addPerson(ALICE);
+        assertTrue(whoDat.getVersion() > initialVersion);
+
+        long versionAfterAdd = whoDat.getVersion();
+        whoDat.hasPerson(ALICE);
+        whoDat.getPersonList();
+        assertEquals(versionAfterAdd, whoDat.getVersion());
+
+        whoDat.removePerson(ALICE);
+        assertTrue(whoDat.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void getVersion_failedMutation_versionUnchanged() {
+        whoDat.addPerson(ALICE);
+        long version = whoDat.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> whoDat.addPerson(ALICE));
+        assertEquals(version, whoDat.getVersion());
+    }
+
+    @Test
+    public void getPersonsWithTag_afterMutations_indexUpToDate() {
+        whoDat.resetData(getTypicalWhoDat());
+        Tag needHelp = new Tag("NeedHelp");
+        assertEquals(new WhoDatStub(whoDat.getPersonList()).getPersonsWithTag(needHelp),
+                new ArrayList<>(whoDat.getPersonsWithTag(needHelp)));
+
+        whoDat.removePerson(ALICE);
+        assertFalse(whoDat.getPersonsWithTag(needHelp).contains(ALICE));
+
+        Person editedCarl = new PersonBuilder(CARL).withTags("needhelp").build();
+        whoDat.setPerson(CARL, editedCarl);
+        assertTrue(whoDat.getPersonsWithTag(needHelp).contains(editedCarl));
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+        whoDat.setPerson(BENSON, editedBenson);
+        assertFalse(whoDat.getPersonsWithTag(needHelp).contains(editedBenson));
+        assertTrue(whoDat.getPersonsWithTag(new Tag("LateSubmission")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsInClass_afterMutations_indexUpToDate() {
+        whoDat.resetData(getTypicalWhoDat());
+        ClassId classId = new ClassId("CS1101-01");
+        assertEquals(new WhoDatStub(whoDat.getPersonList()).getPersonsInClass(classId),
+                new ArrayList<>(whoDat.getPersonsInClass(classId)));
+
+        whoDat.removePerson(ALICE);
+        assertFalse(whoDat.getPersonsInClass(classId).contains(ALICE));
+
+        Person movedBenson = new PersonBuilder(BENSON).withClassId("cs1101-08").build();
+        whoDat.setPerson(BENSON, movedBenson);
+        assertFalse(whoDat.getPersonsInClass(classId).contains(movedBenson));
+        assertTrue(whoDat.getPersonsInClass(new ClassId("cs1101-08")).contains(movedBenson));
+    }
+
+    @Test
+    public void getCompletions_afterMutations_trieUpToDate() {
+        whoDat.resetData(getTypicalWhoDat());
+        assertEquals(Arrays.asList("Alice"), whoDat.getCompletions("ali", 10));
+
+        whoDat.setPersons(Arrays.asList(CARL));
+        assertTrue(whoDat.getCompletions("ali", 10).isEmpty());
+        assertEquals(Arrays.asList("Carl"), whoDat.getCompletions("car", 10));
+
+        whoDat.addPerson(ALICE);
+        whoDat.removePerson(CARL);
+        assertEquals(Arrays.asList("Alice"), whoDat.getCompletions("ali", 10));
+        assertTrue(whoDat.getCompletions("car", 10).isEmpty());
+    }
+
+    @Test
+    public void restore_earlierSnapshots_changesOnlyDifferences() {
+        WhoDat whoDat = getTypicalWhoDat();
+        List<Person> original = new ArrayList<>(whoDat.getPersonList());
+        ReadOnlyWhoDat originalState = whoDat.snapshot();
+        whoDat.removePersons(Arrays.asList(ALICE, CARL));
+        whoDat.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        whoDat.addPerson(HOON);
+        List<Person> changed = new ArrayList<>(whoDat.getPersonList());
+        ReadOnlyWhoDat changedState = whoDat.snapshot();
+        int[] addedCount = new int[1];
+        whoDat.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                addedCount[0] += change.getAddedSize();
+            }
+        });
+
+        whoDat.restore(originalState);
+        assertEquals(original, whoDat.getPersonList());
+        assertEquals(original, whoDat.snapshot().getPersonList());
+        // ALICE and CARL inserted, BENSON replaced
+        assertEquals(3, addedCount[0]);
+        assertTrue(whoDat.getPersonsWithTag(new Tag("LateSubmission")).contains(BENSON));
+        assertTrue(whoDat.getPersonsInClass(new ClassId("cs1101-08")).isEmpty());
+
+        whoDat.restore(changedState);
+        assertEquals(changed, whoDat.getPersonList());
+        assertEquals(changed, whoDat.snapshot().getPersonList());
+        assertEquals(List.of(HOON), new ArrayList<>(whoDat.getPersonsInClass(new ClassId("cs1101-08"))));
+    }
+
+    @Test
+    public void snapshot_laterMutations_snapshotsUnchanged() {
+        WhoDat whoDat = getTypicalWhoDat();
+        List<Person> original = new ArrayList<>(whoDat.getPersonList());
+        ReadOnlyWhoDat firstSnapshot = whoDat.snapshot();
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        whoDat.setPerson(BENSON, editedBenson);
+        whoDat.removePerson(ALICE);
+        ReadOnlyWhoDat secondSnapshot = whoDat.snapshot();
+        whoDat.addPerson(new PersonBuilder(ALICE).build());
+        whoDat.removePersons(Arrays.asList(CARL));
+
+        assertEquals(original, firstSnapshot.getPersonList());
+        List<Person> expectedSecond = new ArrayList<>(original.subList(1, original.size()));
+        expectedSecond.set(0, editedBenson);
+        assertEquals(expectedSecond, secondSnapshot.getPersonList());
+        assertEquals(whoDat.getPersonList(), whoDat.snapshot().getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> firstSnapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getChangesSince_laterSnapshot_replaysToSnapshot() {
+        WhoDat whoDat = getTypicalWhoDat();
+        WhoDatSnapshot before = (WhoDatSnapshot) whoDat.snapshot();
+        whoDat.removePerson(BENSON);
+        whoDat.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Edited").build());
+        whoDat.addPerson(HOON);
+        whoDat.restore(before);
+        WhoDatSnapshot after = (WhoDatSnapshot) whoDat.snapshot();
+
+        List<PersonListChange> changes = after.getChangesSince(before).get();
+        List<Person> replayed = new ArrayList<>(before.getPersonList());
+        for (PersonListChange change : changes) {
+            switch (change.getType()) {
+            case APPEND:
+                replayed.add(change.getPerson());
+                break;
+            case INSERT:
+                replayed.add(change.getIndex(), change.getPerson());
+                break;
+            case SET:
+                replayed.set(change.getIndex(), change.getPerson());
+                break;
+            default:
+                replayed.remove(change.getIndex());
+            }
+        }
+        assertEquals(after.getPersonList(), replayed);
+        assertTrue(after.getChangesSince(after).get().isEmpty());
+        assertFalse(before.getChangesSince(after).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_resetFromWhoDat_continuesChanges() {
+        WhoDat loaded = getTypicalWhoDat();
+        WhoDatSnapshot loadedSnapshot = (WhoDatSnapshot) loaded.snapshot();
+        WhoDat whoDat = new WhoDat(loaded);
+        WhoDat otherCopy = new WhoDat(loaded);
+        whoDat.addPerson(HOON);
+        otherCopy.addPerson(IDA);
+
+        assertEquals(1, ((WhoDatSnapshot) whoDat.snapshot()).getChangesSince(loadedSnapshot).get().size());
+        // only the first copy to change continues the changes of the data it was reset to
+        assertFalse(((WhoDatSnapshot) otherCopy.snapshot()).getChangesSince(loadedSnapshot).isPresent());
+
+        whoDat.setPersons(List.of(ALICE));
+        assertFalse(((WhoDatSnapshot) whoDat.snapshot()).getChangesSince(loadedSnapshot).isPresent());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> whoDat.getPersonList().remove(0));
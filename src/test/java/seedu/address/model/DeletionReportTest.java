@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DeletionReportTest {
+
+    private final DeletionReport report = new DeletionReport(List.of(ALICE), List.of(CARL.getStudentId()));
+
+    @Test
+    public void withInvalidStudentIds_keepsOtherLists() {
+        DeletionReport withInvalid = report.withInvalidStudentIds(List.of("A123"));
+        assertEquals(List.of(ALICE), withInvalid.getDeletedPersons());
+        assertEquals(List.of(CARL.getStudentId()), withInvalid.getMissingStudentIds());
+        assertEquals(List.of("A123"), withInvalid.getInvalidStudentIds());
+        assertTrue(report.getInvalidStudentIds().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(report.equals(new DeletionReport(List.of(ALICE), List.of(CARL.getStudentId()), List.of())));
+        assertEquals(report.hashCode(),
+                new DeletionReport(List.of(ALICE), List.of(CARL.getStudentId()), List.of()).hashCode());
+
+        // different invalid ids -> returns false
+        assertFalse(report.equals(report.withInvalidStudentIds(List.of("A123"))));
+
+        // different missing ids -> returns false
+        assertFalse(report.equals(new DeletionReport(List.of(ALICE), List.of())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DeletionReport withInvalid = report.withInvalidStudentIds(List.of("A123"));
+        String expected = DeletionReport.class.getCanonicalName() + "{deletedPersons=" + List.of(ALICE)
+                + ", missingStudentIds=" + List.of(CARL.getStudentId()) + ", invalidStudentIds=[A123]}";
+        assertEquals(expected, withInvalid.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FilterResultCacheTest {
+
+    private static final StudentHasSameTagPredicate FIRST_PREDICATE = new StudentHasSameTagPredicate(new Tag("first"));
+    private static final StudentHasSameTagPredicate SECOND_PREDICATE =
+            new StudentHasSameTagPredicate(new Tag("second"));
+    private static final StudentHasSameTagPredicate THIRD_PREDICATE = new StudentHasSameTagPredicate(new Tag("third"));
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterResultCache(-1));
+    }
+
+    @Test
+    public void get_equalPredicate_returnsCachedResult() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(FIRST_PREDICATE, 0, List.of(BENSON, DANIEL));
+
+        assertEquals(Optional.of(List.of(BENSON, DANIEL)),
+                cache.get(new StudentHasSameTagPredicate(new Tag("first")), 0));
+        assertFalse(cache.get(SECOND_PREDICATE, 0).isPresent());
+    }
+
+    @Test
+    public void get_otherVersion_resultsDropped() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(FIRST_PREDICATE, 0, List.of(BENSON));
+
+        assertFalse(cache.get(FIRST_PREDICATE, 1).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_pastCapacity_leastRecentlyUsedDropped() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(FIRST_PREDICATE, 0, List.of(ALICE));
+        cache.put(SECOND_PREDICATE, 0, List.of(BENSON));
+        cache.get(FIRST_PREDICATE, 0);
+        cache.put(THIRD_PREDICATE, 0, List.of(CARL));
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get(SECOND_PREDICATE, 0).isPresent());
+        assertEquals(Optional.of(List.of(ALICE)), cache.get(FIRST_PREDICATE, 0));
+        assertEquals(Optional.of(List.of(CARL)), cache.get(THIRD_PREDICATE, 0));
+    }
+
+    @Test
+    public void put_zeroCapacity_nothingCached() {
+        FilterResultCache cache = new FilterResultCache(0);
+        cache.put(FIRST_PREDICATE, 0, List.of(ALICE));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void setCapacity_smallerCapacity_leastRecentlyUsedDropped() {
+        FilterResultCache cache = new FilterResultCache(3);
+        cache.put(FIRST_PREDICATE, 0, List.of(ALICE));
+        cache.put(SECOND_PREDICATE, 0, List.of(BENSON));
+        cache.put(THIRD_PREDICATE, 0, List.of(CARL));
+
+        cache.setCapacity(1);
+        assertEquals(1, cache.size());
+        assertEquals(Optional.of(List.of(CARL)), cache.get(THIRD_PREDICATE, 0));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private static final StudentHasSameTagPredicate NEED_HELP = new StudentHasSameTagPredicate(new Tag("NeedHelp"));
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final FilteredPersonList filteredPersons =
+            new FilteredPersonList(persons.asUnmodifiableObservableList(), persons::getOrderKey);
+    private final List<Person> testedPersons = new ArrayList<>();
+    private final Predicate<Person> needHelp = person -> {
+        testedPersons.add(person);
+        return NEED_HELP.test(person);
+    };
+
+    private List<Person> shown() {
+        return filteredPersons.asUnmodifiableObservableList();
+    }
+
+    @Test
+    public void constructor_showsEveryPerson() {
+        persons.setPersons(List.of(ALICE, CARL));
+        assertEquals(List.of(ALICE, CARL), shown());
+    }
+
+    @Test
+    public void setFilter_showsGivenMatchesWithoutTesting() {
+        persons.setPersons(List.of(ALICE, BENSON, CARL));
+        filteredPersons.setFilter(needHelp, List.of(ALICE, BENSON));
+        assertEquals(List.of(ALICE, BENSON), shown());
+        assertTrue(testedPersons.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_onlyChangedPersonsTested() {
+        persons.setPersons(List.of(ALICE, BENSON, CARL));
+        filteredPersons.setFilter(needHelp, List.of(ALICE, BENSON));
+
+        // an added match is shown last
+        persons.add(DANIEL);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), shown());
+
+        // an edited person that now matches is shown in its place in the list
+        Person editedCarl = new PersonBuilder(CARL).withTags("NeedHelp").build();
+        persons.setPerson(CARL, editedCarl);
+        assertEquals(List.of(ALICE, BENSON, editedCarl, DANIEL), shown());
+
+        // an edited person that no longer matches is hidden
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+        persons.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedCarl, DANIEL), shown());
+
+        persons.removeAll(List.of(ALICE, DANIEL));
+        assertEquals(List.of(editedCarl), shown());
+        assertEquals(List.of(DANIEL, editedCarl, editedBenson), testedPersons);
+    }
+}
@@ -7,15 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.ClassId;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.WhoDatBuilder;
 
 public class ModelManagerTest {
@@ -88,11 +102,267 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findByStudentId_personInWhoDat_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.empty(), modelManager.findByStudentId(BENSON.getStudentId()));
+    }
+
+    @Test
+    public void findByStudentId_personHiddenByFilter_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertEquals(Optional.of(ALICE), modelManager.findByStudentId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void findByEmail_personInWhoDat_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findByEmail(ALICE.getEmail()));
+        assertEquals(Optional.empty(), modelManager.findByEmail(BENSON.getEmail()));
+    }
+
+    @Test
+    public void deletePersons_mixOfExistingAndMissingStudentIds_returnsReport() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        DeletionReport report = modelManager.deletePersons(
+                Arrays.asList(ALICE.getStudentId(), CARL.getStudentId(), ALICE.getStudentId()));
+
+        assertEquals(new DeletionReport(Arrays.asList(ALICE), Arrays.asList(CARL.getStudentId())), report);
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_showsMatchesInListOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(BENSON);
+
+        modelManager.updateFilteredPersonList(new StudentHasSameTagPredicate(new Tag("needhelp")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // persons edited after filtering are tested against the predicate itself
+        Person editedCarl = new PersonBuilder(CARL).withTags("NeedHelp").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_noPersonTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+
+        // the list is built from the lookup alone, in list order
+        modelManager.updateFilteredPersonList(new IndexedPredicate() {
+            @Override
+            public boolean test(Person person) {
+                throw new AssertionError("The filtered list should not test " + person);
+            }
+
+            @Override
+            public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+                return Arrays.asList(CARL, ALICE);
+            }
+        });
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_classIdPredicate_showsClassInListOrder() {
+        modelManager.addPerson(HOON);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+
+        modelManager.updateFilteredPersonList(new StudentHasSameClassIdPredicate(new ClassId("CS1101-01")));
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_classIdPredicate_noPersonTested() {
+        modelManager.addPerson(HOON);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+
+        modelManager.updateFilteredPersonList(new StudentHasSameClassIdPredicate(new ClassId("cs1101-08")) {
+            @Override
+            public boolean test(Person person) {
+                throw new AssertionError("filter_c should not test " + person);
+            }
+        });
+        assertEquals(Arrays.asList(HOON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedPredicate_matchesUpToDate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        StudentHasSameTagPredicate needHelp = new StudentHasSameTagPredicate(new Tag("needhelp"));
+
+        modelManager.updateFilteredPersonList(needHelp);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new StudentHasSameTagPredicate(new Tag("needhelp")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // results cached before a change are not reused
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(needHelp);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedIndexedPredicate_lookedUpOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        int[] lookUps = new int[1];
+        IndexedPredicate isCarl = new IndexedPredicate() {
+            @Override
+            public boolean test(Person person) {
+                throw new AssertionError("A cached filter should not test " + person);
+            }
+
+            @Override
+            public Collection<Person> lookUp(ReadOnlyWhoDat whoDat) {
+                lookUps[0]++;
+                return Arrays.asList(CARL);
+            }
+        };
+
+        modelManager.updateFilteredPersonList(isCarl);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(isCarl);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+        assertEquals(1, lookUps[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedPlainPredicate_testedAgain() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        int[] tests = new int[1];
+        Predicate<Person> isCarl = person -> {
+            tests[0]++;
+            return person.equals(CARL);
+        };
+
+        modelManager.updateFilteredPersonList(isCarl);
+        modelManager.updateFilteredPersonList(isCarl);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+        // plain predicates are not cached
+        assertEquals(4, tests[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonList_filterCacheDisabled_showsMatches() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFilterCacheSize(0);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+
+        modelManager.updateFilteredPersonList(person -> person.equals(CARL));
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addAndSetPerson_activeFilter_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new StudentHasSameTagPredicate(new Tag("NeedHelp")));
+
+        // added person not matching the filter stays hidden
+        modelManager.addPerson(CARL);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // edited person no longer matching the filter is hidden
+        Person editedAlice = new PersonBuilder(ALICE).withTags().build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+
+        // added person matching the filter is shown
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undoWhoDat_afterChanges_restoresEachEarlierState() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.setWhoDat(new WhoDat());
+        assertTrue(modelManager.canUndoWhoDat());
+        assertFalse(modelManager.canRedoWhoDat());
+
+        modelManager.undoWhoDat();
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+        modelManager.undoWhoDat();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.redoWhoDat();
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+        modelManager.redoWhoDat();
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        assertFalse(modelManager.canRedoWhoDat());
+        assertThrows(IllegalStateException.class, () -> modelManager.redoWhoDat());
+    }
+
+    @Test
+    public void undoWhoDat_activeFilter_onlyChangedPersonsTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        List<Person> tested = new ArrayList<>();
+        modelManager.updateFilteredPersonList(new StudentHasSameTagPredicate(new Tag("NeedHelp")) {
+            @Override
+            public boolean test(Person person) {
+                tested.add(person);
+                return super.test(person);
+            }
+        });
+        modelManager.deletePerson(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags("NeedHelp").build();
+        modelManager.setPerson(CARL, editedCarl);
+        tested.clear();
+
+        modelManager.undoWhoDat();
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(CARL), tested);
+        modelManager.undoWhoDat();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(CARL, ALICE), tested);
+    }
+
+    @Test
+    public void undoWhoDat_beyondHistoryDepth_oldestChangesDropped() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        modelManager.undoWhoDat();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoWhoDat());
+        assertThrows(IllegalStateException.class, () -> modelManager.undoWhoDat());
+    }
+
+    @Test
+    public void deletePersons_noneFound_nothingToUndo() {
+        modelManager.deletePersons(Arrays.asList(ALICE.getStudentId()));
+        assertFalse(modelManager.canUndoWhoDat());
+    }
+
     @Test
     public void equals() {
         WhoDat whoDat = new WhoDatBuilder().withPerson(ALICE).withPerson(BENSON).build();
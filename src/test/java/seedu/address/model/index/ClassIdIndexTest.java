@@ -0,0 +1,69 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ClassIdIndexTest {
+
+    private final ClassIdIndex classIdIndex = new ClassIdIndex();
+
+    @Test
+    public void getPersonsInClass_differentCase_returnsMatchesInIndexedOrder() {
+        classIdIndex.add(BENSON);
+        classIdIndex.add(HOON);
+        classIdIndex.add(ALICE);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(BENSON, ALICE)),
+                classIdIndex.getPersonsInClass(new ClassId("CS1101-01")));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(HOON)),
+                classIdIndex.getPersonsInClass(new ClassId("cs1101-08")));
+        assertTrue(classIdIndex.getPersonsInClass(new ClassId("cs2103t-01")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerReturned() {
+        classIdIndex.add(ALICE);
+        classIdIndex.add(BENSON);
+        classIdIndex.remove(ALICE);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(BENSON)),
+                classIdIndex.getPersonsInClass(new ClassId("cs1101-01")));
+    }
+
+    @Test
+    public void clear_indexedPersons_empty() {
+        classIdIndex.add(ALICE);
+        classIdIndex.clear();
+        assertTrue(classIdIndex.getPersonsInClass(new ClassId("cs1101-01")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsInClass_turkishDefaultLocale_agreesWithPredicate() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Person student = new PersonBuilder().withClassId("lab-i").build();
+            classIdIndex.add(student);
+            ClassId classId = new ClassId("LAB-I");
+
+            assertEquals(new LinkedHashSet<>(Arrays.asList(student)), classIdIndex.getPersonsInClass(classId));
+            assertTrue(new StudentHasSameClassIdPredicate(classId).test(student));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
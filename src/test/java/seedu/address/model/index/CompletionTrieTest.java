@@ -0,0 +1,82 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class CompletionTrieTest {
+
+    private final CompletionTrie completionTrie = new CompletionTrie();
+
+    @Test
+    public void complete_namesIdsClassesAndTags_returnsMatchesInOrder() {
+        completionTrie.add(ALICE);
+        completionTrie.add(BENSON);
+        completionTrie.add(HOON);
+
+        assertEquals(Arrays.asList("Meier"), completionTrie.complete("mei", 10));
+        assertEquals(Arrays.asList("Alice"), completionTrie.complete("AL", 10));
+        assertEquals(Arrays.asList("cs1101-01", "cs1101-08"), completionTrie.complete("cs1101", 10));
+        assertEquals(Arrays.asList("NeedHelp"), completionTrie.complete("need", 10));
+        assertEquals(Arrays.asList(HOON.getStudentId().getValue()),
+                completionTrie.complete(HOON.getStudentId().getValue().substring(0, 4), 10));
+    }
+
+    @Test
+    public void of_persons_sameAsAddingEach() {
+        completionTrie.add(ALICE);
+        completionTrie.add(HOON);
+
+        CompletionTrie built = CompletionTrie.of(Arrays.asList(ALICE, HOON));
+        assertEquals(completionTrie.complete("a", 10), built.complete("a", 10));
+        assertEquals(completionTrie.complete("cs", 10), built.complete("cs", 10));
+    }
+
+    @Test
+    public void complete_limitOrNoMatch_returnsAtMostLimit() {
+        completionTrie.add(ALICE);
+        completionTrie.add(HOON);
+
+        assertEquals(Arrays.asList("cs1101-01"), completionTrie.complete("cs", 1));
+        assertTrue(completionTrie.complete("cs1102", 10).isEmpty());
+        assertTrue(completionTrie.complete("alicex", 10).isEmpty());
+        assertTrue(completionTrie.complete("", 10).isEmpty());
+    }
+
+    @Test
+    public void complete_wordsSharingPrefixes_splitAndMergedBack() {
+        completionTrie.add(new PersonBuilder().withName("Ann Anna Annabel").build());
+        assertEquals(Arrays.asList("Ann", "Anna", "Annabel"), completionTrie.complete("an", 10));
+        assertEquals(Arrays.asList("Anna", "Annabel"), completionTrie.complete("anna", 10));
+
+        completionTrie.remove(new PersonBuilder().withName("Ann Anna Annabel").build());
+        assertTrue(completionTrie.complete("a", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_wordSharedByOtherPerson_stillCompleted() {
+        completionTrie.add(BENSON);
+        completionTrie.add(DANIEL);
+        completionTrie.remove(BENSON);
+
+        assertEquals(Arrays.asList("Meier"), completionTrie.complete("Mei", 10));
+        assertTrue(completionTrie.complete("Ben", 10).isEmpty());
+        assertTrue(completionTrie.complete("Late", 10).isEmpty());
+    }
+
+    @Test
+    public void clear_indexedPersons_empty() {
+        completionTrie.add(ALICE);
+        completionTrie.clear();
+        assertTrue(completionTrie.complete("Alice", 10).isEmpty());
+    }
+}
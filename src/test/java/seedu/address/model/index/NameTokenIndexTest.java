@@ -0,0 +1,74 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void tokenize() {
+        assertEquals(Arrays.asList("alice", "pauline"), NameTokenIndex.tokenize("  Alice \t PAULINE "));
+        assertEquals(Collections.emptyList(), NameTokenIndex.tokenize("   "));
+    }
+
+    @Test
+    public void getPersonsWithNameToken_differentCase_returnsMatches() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.add(DANIEL);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(BENSON, DANIEL)),
+                nameTokenIndex.getPersonsWithNameToken("MEIER"));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(ALICE)), nameTokenIndex.getPersonsWithNameToken("alice"));
+        // not a full word match
+        assertTrue(nameTokenIndex.getPersonsWithNameToken("Ali").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerReturned() {
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.add(DANIEL);
+        nameTokenIndex.remove(BENSON);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(DANIEL)), nameTokenIndex.getPersonsWithNameToken("Meier"));
+        assertTrue(nameTokenIndex.getPersonsWithNameToken("Benson").isEmpty());
+    }
+
+    @Test
+    public void clear_indexedPersons_empty() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.clear();
+        assertTrue(nameTokenIndex.getPersonsWithNameToken("Alice").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameToken_turkishDefaultLocale_ignoresCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Person iris = new PersonBuilder().withName("Iris Lim").build();
+            nameTokenIndex.add(iris);
+
+            assertEquals(Arrays.asList("iris", "lim"), NameTokenIndex.tokenize("IRIS LIM"));
+            assertEquals(new LinkedHashSet<>(Arrays.asList(iris)), nameTokenIndex.getPersonsWithNameToken("iris"));
+            assertEquals(new LinkedHashSet<>(Arrays.asList(iris)), nameTokenIndex.getPersonsWithNameToken("IRIS"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
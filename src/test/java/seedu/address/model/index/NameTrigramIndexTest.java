@@ -0,0 +1,53 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+
+    @Test
+    public void getCandidates_misspeltWord_includesCloseNames() {
+        nameTrigramIndex.add(ALICE);
+        nameTrigramIndex.add(BENSON);
+        nameTrigramIndex.add(CARL);
+
+        // "Pauline" is 1 edit away
+        assertTrue(nameTrigramIndex.getCandidates("PAULNE", 1).get().contains(ALICE));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON)),
+                new HashSet<>(nameTrigramIndex.getCandidates("meir", 1).get()));
+        assertTrue(nameTrigramIndex.getCandidates("xyzzy", 1).get().isEmpty());
+    }
+
+    @Test
+    public void getCandidates_tooFewTrigramsToFilter_empty() {
+        nameTrigramIndex.add(new PersonBuilder().withName("Aaaaaa").build());
+        assertFalse(nameTrigramIndex.getCandidates("aaaaaa", 2).isPresent());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerCandidate() {
+        nameTrigramIndex.add(ALICE);
+        nameTrigramIndex.remove(ALICE);
+        assertTrue(nameTrigramIndex.getCandidates("Alice", 1).get().isEmpty());
+    }
+
+    @Test
+    public void clear_indexedPersons_empty() {
+        nameTrigramIndex.add(ALICE);
+        nameTrigramIndex.clear();
+        assertTrue(nameTrigramIndex.getCandidates("Alice", 1).get().isEmpty());
+    }
+}
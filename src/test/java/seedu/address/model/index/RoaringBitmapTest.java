@@ -0,0 +1,106 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RoaringBitmapTest {
+
+    /**
+     * Returns random values below {@code bound}, about one in {@code spacing} of them set.
+     */
+    private static BitSet randomValues(Random random, int bound, int spacing) {
+        BitSet values = new BitSet();
+        for (int i = 0; i < bound / spacing; i++) {
+            values.set(random.nextInt(bound));
+        }
+        return values;
+    }
+
+    private static RoaringBitmap toBitmap(BitSet values) {
+        return RoaringBitmap.of(values.stream().toArray());
+    }
+
+    private static void assertSameValues(BitSet expected, RoaringBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.cardinality());
+    }
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RoaringBitmap.of(-1));
+    }
+
+    @Test
+    public void addAndRemove_acrossChunks_success() {
+        RoaringBitmap bitmap = RoaringBitmap.of(3, 70000, 1, 3);
+        assertArrayEquals(new int[] {1, 3, 70000}, bitmap.toArray());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(2));
+
+        bitmap.remove(70000);
+        bitmap.remove(5);
+        assertArrayEquals(new int[] {1, 3}, bitmap.toArray());
+        assertFalse(bitmap.contains(-1));
+    }
+
+    @Test
+    public void addAndRemove_denseChunk_success() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(10000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19998));
+        assertFalse(bitmap.contains(19999));
+
+        for (int i = 0; i < 9000; i++) {
+            bitmap.remove(i * 2);
+        }
+        assertEquals(1000, bitmap.cardinality());
+        assertTrue(bitmap.contains(18000));
+        assertFalse(bitmap.contains(17998));
+    }
+
+    @Test
+    public void setAlgebra_randomSparseAndDense_matchesBitSet() {
+        Random random = new Random(2103);
+        for (int spacing : new int[] {1, 3, 40, 500}) {
+            BitSet first = randomValues(random, 200000, spacing);
+            BitSet second = randomValues(random, 200000, 7);
+            RoaringBitmap firstBitmap = toBitmap(first);
+            RoaringBitmap secondBitmap = toBitmap(second);
+
+            BitSet expectedAnd = (BitSet) first.clone();
+            expectedAnd.and(second);
+            assertSameValues(expectedAnd, firstBitmap.and(secondBitmap));
+
+            BitSet expectedOr = (BitSet) first.clone();
+            expectedOr.or(second);
+            assertSameValues(expectedOr, firstBitmap.or(secondBitmap));
+
+            BitSet expectedAndNot = (BitSet) first.clone();
+            expectedAndNot.andNot(second);
+            assertSameValues(expectedAndNot, firstBitmap.andNot(secondBitmap));
+            assertSameValues(second, secondBitmap);
+        }
+    }
+
+    @Test
+    public void equals() {
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 2, 70000);
+        assertTrue(bitmap.equals(RoaringBitmap.of(70000, 2, 1)));
+        assertTrue(bitmap.equals(bitmap));
+        assertFalse(bitmap.equals(RoaringBitmap.of(1, 2)));
+        assertFalse(bitmap.equals(null));
+        assertTrue(new RoaringBitmap().isEmpty());
+        assertTrue(bitmap.and(RoaringBitmap.of(5)).isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getPersonsWithTag_differentCase_returnsMatches() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.add(CARL);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(ALICE, BENSON)),
+                tagIndex.getPersonsWithTag(new Tag("needhelp")));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(BENSON)),
+                tagIndex.getPersonsWithTag(new Tag("LateSubmission")));
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("Unknown")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerReturned() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(ALICE);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(BENSON)), tagIndex.getPersonsWithTag(new Tag("NeedHelp")));
+    }
+
+    @Test
+    public void clear_indexedPersons_empty() {
+        tagIndex.add(ALICE);
+        tagIndex.clear();
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("NeedHelp")).isEmpty());
+    }
+
+    @Test
+    public void getBitmap_setAlgebra_matchesTags() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.add(CARL);
+        RoaringBitmap needHelp = tagIndex.getBitmap(new Tag("NeedHelp"));
+        RoaringBitmap late = tagIndex.getBitmap(new Tag("latesubmission"));
+
+        assertEquals(Arrays.asList(BENSON), tagIndex.getPersons(needHelp.and(late)));
+        assertEquals(Arrays.asList(ALICE), tagIndex.getPersons(needHelp.andNot(late)));
+        assertEquals(Arrays.asList(ALICE, BENSON), tagIndex.getPersons(needHelp.or(late)));
+        assertTrue(tagIndex.getBitmap(new Tag("Unknown")).isEmpty());
+    }
+
+    @Test
+    public void getBitmap_editedPerson_keepsOrdinal() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        RoaringBitmap before = tagIndex.getBitmap(new Tag("NeedHelp")).or(new RoaringBitmap());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        tagIndex.remove(ALICE);
+        tagIndex.add(editedAlice);
+
+        assertEquals(before, tagIndex.getBitmap(new Tag("NeedHelp")));
+        assertEquals(Arrays.asList(editedAlice, BENSON), tagIndex.getPersons(before));
+    }
+
+    @Test
+    public void getPersonsWithTag_turkishDefaultLocale_agreesWithPredicate() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Person intern = new PersonBuilder().withTags("intern").build();
+            tagIndex.add(intern);
+            Tag tag = new Tag("INTERN");
+
+            assertEquals(new LinkedHashSet<>(Arrays.asList(intern)), tagIndex.getPersonsWithTag(tag));
+            assertTrue(new StudentHasSameTagPredicate(tag).test(intern));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,13 @@ public class ClassIdTest {
         assertThrows(IllegalArgumentException.class, () -> new ClassId(invalidClassId));
     }
 
+    @Test
+    public void of_sameClassId_sameInstance() {
+        assertSame(ClassId.of("CS2103T-10"), ClassId.of("CS2103T-10"));
+        assertEquals(new ClassId("CS2103T-10"), ClassId.of("CS2103T-10"));
+        assertThrows(IllegalArgumentException.class, () -> ClassId.of(""));
+    }
+
     @Test
     public void isValidClassId() {
         // null class id
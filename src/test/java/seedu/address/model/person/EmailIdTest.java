@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,7 @@ public class EmailIdTest {
         assertFalse(EmailId.isValidEmailId("E1_34567")); // invalid character '_'
         assertFalse(EmailId.isValidEmailId("E123.567")); // invalid character '.'
         assertFalse(EmailId.isValidEmailId("E12345-7")); // invalid character "-"
+        assertFalse(EmailId.isValidEmailId("E\uff11234567")); // non-ASCII digits
         assertFalse(EmailId.isValidEmailId(" E1234567")); // leading space
         assertFalse(EmailId.isValidEmailId("E1234567 ")); // trailing space
         assertFalse(EmailId.isValidEmailId("1E234567")); // E is not the first character
@@ -71,4 +73,15 @@ public class EmailIdTest {
         // different values -> returns false
         assertFalse(emailId.equals(new EmailId("E1234569")));
     }
+
+    @Test
+    public void packedInt_roundTrip() {
+        EmailId emailId = new EmailId("E0000001");
+        assertEquals(emailId, EmailId.fromPackedInt(emailId.toPackedInt()));
+        assertEquals("E0000001", EmailId.fromPackedInt(emailId.toPackedInt()).getValue());
+        assertEquals("E0000001@u.nus.edu", emailId.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> EmailId.fromPackedInt(-1));
+        assertThrows(IllegalArgumentException.class, () -> EmailId.fromPackedInt(10_000_000));
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyNameMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        FuzzyNameMatchPredicate firstPredicate = new FuzzyNameMatchPredicate(Collections.singletonList("first"));
+        FuzzyNameMatchPredicate secondPredicate = new FuzzyNameMatchPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FuzzyNameMatchPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameCloseToKeyword_returnsTrue() {
+        // exact match
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Collections.singletonList("alice"));
+        assertEquals(0, predicate.getDistance(new PersonBuilder().withName("Alice Bob").build()));
+
+        // misspelt keywords
+        predicate = new FuzzyNameMatchPredicate(Arrays.asList("Alyce", "Bobb"));
+        assertEquals(1, predicate.getDistance(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol Alice").build()));
+    }
+
+    @Test
+    public void test_nameTooFarFromKeyword_returnsFalse() {
+        // short keywords must match exactly
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Collections.singletonList("Al"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali").build()));
+
+        predicate = new FuzzyNameMatchPredicate(Collections.singletonList("Alcie"));
+        assertEquals(FuzzyNameMatchPredicate.NO_MATCH,
+                predicate.getDistance(new PersonBuilder().withName("Carol").build()));
+    }
+
+    @Test
+    public void getRanking_closerMatchesFirst() {
+        Person exact = new PersonBuilder().withName("Meier").build();
+        Person oneEditAway = new PersonBuilder().withName("Meir").build();
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Collections.singletonList("meier"));
+
+        List<Person> ranked = Arrays.asList(oneEditAway, exact);
+        ranked.sort(predicate.getRanking());
+        assertEquals(Arrays.asList(exact, oneEditAway), ranked);
+    }
+
+    @Test
+    public void getRanking_readsEachNameOncePerRanking() {
+        int[] nameReads = new int[1];
+        List<Person> persons = new ArrayList<>();
+        for (String name : Arrays.asList("Meir", "Meier", "Meiers", "Kurz")) {
+            Person person = new PersonBuilder().withName(name).build();
+            persons.add(new Person(person.getName(), person.getStudentId(), person.getEmail(), person.getClassId(),
+                    person.getTags()) {
+                @Override
+                public Name getName() {
+                    nameReads[0]++;
+                    return super.getName();
+                }
+            });
+        }
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Collections.singletonList("meier"));
+
+        List<Person> ranked = new ArrayList<>(predicate.lookUp(() -> FXCollections.observableList(persons)));
+        nameReads[0] = 0;
+        ranked.sort(predicate.getRanking());
+        assertEquals(Arrays.asList(persons.get(1), persons.get(0), persons.get(2)), ranked);
+        // each match's name is read once while sorting, to compute its distance
+        assertEquals(ranked.size(), nameReads[0]);
+
+        // a new ranking does not reuse the distances of an earlier one
+        nameReads[0] = 0;
+        ranked.sort(predicate.getRanking());
+        assertEquals(ranked.size(), nameReads[0]);
+    }
+
+    @Test
+    public void lookUp_misspeltKeywords_returnsSameAsTesting() {
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(Arrays.asList("meir", "kuntz"));
+        WhoDat whoDat = getTypicalWhoDat();
+
+        Set<Person> expected = whoDat.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.lookUp(whoDat)));
+
+        // without a name index
+        ReadOnlyWhoDat unindexed = whoDat::getPersonList;
+        assertEquals(expected, new HashSet<>(predicate.lookUp(unindexed)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        FuzzyNameMatchPredicate predicate = new FuzzyNameMatchPredicate(keywords);
+
+        String expected = FuzzyNameMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -3,13 +3,19 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +80,18 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmailId("E1104598").withClassId("Main Street").build()));
     }
 
+    @Test
+    public void lookUp_multipleKeywords_returnsUnionOfMatches() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("meier", "KURZ"));
+        WhoDat whoDat = getTypicalWhoDat();
+
+        Set<Person> expected = whoDat.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.lookUp(whoDat)));
+        // without a name index
+        ReadOnlyWhoDat unindexed = whoDat::getPersonList;
+        assertEquals(expected, new HashSet<>(predicate.lookUp(unindexed)));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
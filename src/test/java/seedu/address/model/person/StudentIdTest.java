@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -36,6 +37,7 @@ public class StudentIdTest {
         assertFalse(StudentId.isValidStudentId("a1234567b")); // starts and ends with small letter
         assertFalse(StudentId.isValidStudentId("b1234567b")); // starts with wrong letter
         assertFalse(StudentId.isValidStudentId("A123 456H")); // spaces within digits
+        assertFalse(StudentId.isValidStudentId("A\uff11234567H")); // non-ASCII digits
 
         // valid student id
         assertTrue(StudentId.isValidStudentId("A1234567B"));
@@ -73,4 +75,22 @@ public class StudentIdTest {
         String notMatchingStudentIdString1 = "A123456H";
         assertFalse(notMatchingStudentIdString1.equals(studentId.toString()));
     }
+
+    @Test
+    public void constructor_surroundingWhitespace_valueTrimmed() {
+        assertEquals("A7654321F", new StudentId(" A7654321F ").getValue());
+        assertEquals(new StudentId("A7654321F"), new StudentId(" A7654321F "));
+    }
+
+    @Test
+    public void packedInt_roundTrip() {
+        StudentId studentId = new StudentId("A0012345Z");
+        assertEquals(studentId, StudentId.fromPackedInt(studentId.toPackedInt()));
+        assertEquals("A0012345Z", StudentId.fromPackedInt(studentId.toPackedInt()).getValue());
+        assertEquals(0, new StudentId("A0000000A").toPackedInt());
+
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromPackedInt(-1));
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromPackedInt(
+                new StudentId("A9999999Z").toPackedInt() + 1));
+    }
 }
@@ -1,12 +1,16 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_ID_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_ID_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
@@ -15,6 +19,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +52,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailIdOnlyInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person sameEmailAsAlice = new PersonBuilder(BOB).withEmailId(ALICE.getEmail().getValue()).build();
+        assertTrue(uniquePersonList.contains(sameEmailAsAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +128,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonTakesEmailIdOfOtherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmailId(VALID_EMAIL_ID_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonChangesStudentId_oldStudentIdReleased() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId(VALID_STUDENT_ID_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        Person newPersonWithOldStudentId = new PersonBuilder(BOB)
+                .withStudentId(ALICE.getStudentId().getValue()).build();
+        assertFalse(uniquePersonList.contains(newPersonWithOldStudentId));
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -119,6 +157,13 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withClassId(VALID_CLASS_ID_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -127,6 +172,61 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_existingPersons_removesWithSingleChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.removeAll(Arrays.asList(ALICE, BOB));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_uniquePersons_appendedWithSingleChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(BENSON, BOB));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_conflicts_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person sameEmailIdAsAlice = new PersonBuilder(BENSON).withEmailId(ALICE.getEmail().getValue()).build();
+        Person sameStudentIdAsBob = new PersonBuilder(BENSON).withStudentId(VALID_STUDENT_ID_BOB)
+                .withEmailId("E7654321").build();
+
+        String expectedMessage = "Operation would result in duplicate persons:\n"
+                + "Email ID " + ALICE.getEmail().getValue() + " is used by both Alice Pauline and Benson Meier\n"
+                + "Student ID " + VALID_STUDENT_ID_BOB + " is used by both Bob Choo and Benson Meier";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.addAll(Arrays.asList(sameEmailIdAsAlice, BOB, sameStudentIdAsBob)));
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +262,76 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralConflicts_reportsEveryConflict() {
+        Person sameStudentIdAsAlice = new PersonBuilder(ALICE).withEmailId("E7654321").build();
+        Person sameEmailIdAsBob = new PersonBuilder(BOB).withStudentId("A7654321Z").build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, sameStudentIdAsAlice, sameEmailIdAsBob);
+
+        String expectedMessage = "Operation would result in duplicate persons:\n"
+                + "Student ID " + ALICE.getStudentId() + " is used by both Alice Pauline and Alice Pauline\n"
+                + "Email ID " + VALID_EMAIL_ID_BOB + " is used by both Bob Choo and Bob Choo";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () -> uniquePersonList.setPersons(persons));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getOrderKey_afterChanges_followsListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.add(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+
+        assertTrue(uniquePersonList.getOrderKey(editedAlice) < uniquePersonList.getOrderKey(BENSON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getOrderKey(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getOrderKey(BOB));
+    }
+
+    @Test
+    public void add_atIndex_orderKeysFollowListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.add(0, BENSON);
+        // enough insertions at one place to use up the room between two keys
+        for (int i = 0; i < 20; i++) {
+            uniquePersonList.add(2, new PersonBuilder().withStudentId(String.format("A%07dZ", i))
+                    .withEmailId(String.format("E%07d", i)).build());
+        }
+
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(Arrays.asList(BENSON, ALICE), persons.subList(0, 2));
+        assertEquals(BOB, persons.get(persons.size() - 1));
+        for (int i = 1; i < persons.size(); i++) {
+            assertTrue(uniquePersonList.getOrderKey(persons.get(i - 1)) < uniquePersonList.getOrderKey(persons.get(i)));
+        }
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(1, BOB));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterInsertions_returnListPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        // enough insertions at one place to renumber the order keys
+        for (int i = 0; i < 20; i++) {
+            uniquePersonList.add(1, new PersonBuilder().withStudentId(String.format("A%07dZ", i))
+                    .withEmailId(String.format("E%07d", i)).build());
+        }
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        Person tenth = persons.get(10);
+
+        Person editedTenth = new PersonBuilder(tenth).withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(10, uniquePersonList.setPerson(tenth, editedTenth));
+        assertEquals(21, uniquePersonList.remove(BOB));
+        assertEquals(10, uniquePersonList.remove(editedTenth));
+        assertEquals(0, uniquePersonList.remove(ALICE));
+    }
+
+    @Test
+    public void removeAll_persons_returnsTheirPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+        assertArrayEquals(new int[] {0, 2}, uniquePersonList.removeAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(Arrays.asList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,109 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.ClassId;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentHasSameClassIdPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.tag.Tag;
+
+public class AndQueryTest {
+
+    private static final Query CLASS_TERM =
+            new TermQuery(new StudentHasSameClassIdPredicate(new ClassId("cs1101-01")));
+    private static final Query LATE_TERM = new TermQuery(new StudentHasSameTagPredicate(new Tag("LateSubmission")));
+    private static final Query NEED_HELP_TERM = new TermQuery(new StudentHasSameTagPredicate(new Tag("NeedHelp")));
+
+    private final WhoDat whoDat = getTypicalWhoDat();
+
+    @Test
+    public void getCandidates_severalIndexedOperands_mostSelectiveChosen() {
+        Query query = new AndQuery(List.of(CLASS_TERM, NEED_HELP_TERM, LATE_TERM));
+        assertEquals(List.of(BENSON), new ArrayList<>(query.getCandidates(whoDat).get()));
+        assertEquals(List.of(BENSON), query.lookUp(whoDat));
+    }
+
+    @Test
+    public void getCandidates_severalIndexedOperands_onlyMostSelectiveCollected() {
+        Query uncollectable = new TermQuery(new StudentHasSameClassIdPredicate(new ClassId("cs1101-01"))) {
+            @Override
+            public Optional<Collection<Person>> getCandidates(ReadOnlyWhoDat whoDat) {
+                throw new AssertionError("The candidates of the larger class should not be collected");
+            }
+        };
+        Query query = new AndQuery(List.of(uncollectable, LATE_TERM));
+        assertEquals(OptionalInt.of(1), query.estimateCandidateCount(whoDat));
+        assertEquals(List.of(BENSON), new ArrayList<>(query.getCandidates(whoDat).get()));
+    }
+
+    @Test
+    public void getCandidates_negatedOperand_remainingOperandsNarrowDown() {
+        Query query = new AndQuery(List.of(new NotQuery(LATE_TERM), NEED_HELP_TERM));
+        assertEquals(List.of(ALICE, BENSON, DANIEL),
+                new ArrayList<>(query.getCandidates(whoDat).get()));
+        // BENSON is a candidate but is dropped by the negated operand
+        assertFalse(query.lookUp(whoDat).contains(BENSON));
+        assertTrue(query.lookUp(whoDat).contains(ALICE));
+    }
+
+    @Test
+    public void getCandidates_onlyNegatedOperands_empty() {
+        Query query = new AndQuery(List.of(new NotQuery(LATE_TERM), new NotQuery(CLASS_TERM)));
+        assertFalse(query.getCandidates(whoDat).isPresent());
+        assertTrue(query.lookUp(whoDat).stream().noneMatch(CLASS_TERM));
+    }
+
+    @Test
+    public void getTagBitmap_onlyTagOperands_exactMatches() {
+        Query query = new AndQuery(List.of(NEED_HELP_TERM, new NotQuery(LATE_TERM)));
+        TagIndex tagIndex = whoDat.getTagIndex();
+        List<Person> expected = whoDat.getPersonList().stream().filter(query).collect(Collectors.toList());
+
+        assertEquals(expected, tagIndex.getPersons(query.getTagBitmap(tagIndex).get()));
+        assertEquals(expected, query.lookUp(whoDat));
+    }
+
+    @Test
+    public void getTagBitmap_nonTagOperand_empty() {
+        TagIndex tagIndex = whoDat.getTagIndex();
+        assertFalse(new AndQuery(List.of(NEED_HELP_TERM, CLASS_TERM)).getTagBitmap(tagIndex).isPresent());
+        assertFalse(new AndQuery(List.of(new NotQuery(LATE_TERM))).getTagBitmap(tagIndex).isPresent());
+    }
+
+    @Test
+    public void test() {
+        Query query = new AndQuery(List.of(NEED_HELP_TERM,
+                new TermQuery(new NameContainsKeywordsPredicate(List.of("alice")))));
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        Query query = new AndQuery(List.of(CLASS_TERM, LATE_TERM));
+        assertTrue(query.equals(new AndQuery(List.of(CLASS_TERM, LATE_TERM))));
+        assertFalse(query.equals(new AndQuery(List.of(LATE_TERM, CLASS_TERM))));
+        assertFalse(query.equals(new OrQuery(List.of(CLASS_TERM, LATE_TERM))));
+        assertFalse(query.equals(null));
+    }
+}
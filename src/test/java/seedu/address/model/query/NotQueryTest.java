@@ -0,0 +1,45 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.tag.Tag;
+
+public class NotQueryTest {
+
+    private static final Query NEED_HELP_TERM = new TermQuery(new StudentHasSameTagPredicate(new Tag("NeedHelp")));
+
+    @Test
+    public void test() {
+        Query query = new NotQuery(NEED_HELP_TERM);
+        assertFalse(query.test(ALICE));
+        assertTrue(query.test(CARL));
+    }
+
+    @Test
+    public void getCandidates_empty() {
+        assertFalse(new NotQuery(NEED_HELP_TERM).getCandidates(getTypicalWhoDat()).isPresent());
+    }
+
+    @Test
+    public void equals() {
+        Query query = new NotQuery(NEED_HELP_TERM);
+        assertTrue(query.equals(new NotQuery(NEED_HELP_TERM)));
+        assertFalse(query.equals(NEED_HELP_TERM));
+        assertFalse(query.equals(null));
+    }
+
+    @Test
+    public void hashCode_differsFromOperand() {
+        assertNotEquals(NEED_HELP_TERM.hashCode(), new NotQuery(NEED_HELP_TERM).hashCode());
+        assertEquals(new NotQuery(NEED_HELP_TERM).hashCode(), new NotQuery(NEED_HELP_TERM).hashCode());
+    }
+}
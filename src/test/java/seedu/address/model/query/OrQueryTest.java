@@ -0,0 +1,52 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.WhoDat;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.StudentHasSameTagPredicate;
+import seedu.address.model.person.StudentIdMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+public class OrQueryTest {
+
+    private static final Query LATE_TERM = new TermQuery(new StudentHasSameTagPredicate(new Tag("LateSubmission")));
+    private static final Query CARL_TERM = new TermQuery(new StudentIdMatchPredicate(CARL.getStudentId()));
+
+    private final WhoDat whoDat = getTypicalWhoDat();
+
+    @Test
+    public void getCandidates_indexedOperands_unionOfCandidates() {
+        Query query = new OrQuery(List.of(LATE_TERM, CARL_TERM));
+        assertEquals(Set.of(BENSON, CARL), new HashSet<>(query.getCandidates(whoDat).get()));
+        assertEquals(Set.of(BENSON, CARL), new HashSet<>(query.lookUp(whoDat)));
+    }
+
+    @Test
+    public void getCandidates_negatedOperand_empty() {
+        Query query = new OrQuery(List.of(LATE_TERM, new NotQuery(CARL_TERM)));
+        assertFalse(query.getCandidates(whoDat).isPresent());
+        assertEquals(whoDat.getPersonList().size() - 1, query.lookUp(whoDat).size());
+    }
+
+    @Test
+    public void test() {
+        Query query = new OrQuery(List.of(CARL_TERM,
+                new TermQuery(new NameContainsKeywordsPredicate(List.of("alice")))));
+        assertTrue(query.test(ALICE));
+        assertTrue(query.test(CARL));
+        assertFalse(query.test(BENSON));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+
+public class BinaryWhoDatStorageTest {
+    private static final Path TYPICAL_PERSONS_JSON_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableWhoDatTest", "typicalPersonsWhoDat.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "whodat.bin"), BinaryWhoDatStorage.toBinaryFilePath(Paths.get("data",
+                "whodat.json")));
+        assertEquals(Paths.get("data", "whodat.bin"), BinaryWhoDatStorage.toBinaryFilePath(Paths.get("data",
+                "whodat")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryWhoDatStorage(testFolder.resolve("missing.bin")).readWhoDat().isPresent());
+    }
+
+    @Test
+    public void readAndSaveWhoDat_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempWhoDat.bin");
+        BinaryWhoDatStorage storage = new BinaryWhoDatStorage(filePath);
+        WhoDat original = getTypicalWhoDat();
+
+        storage.saveWhoDat(original);
+        ReadOnlyWhoDat readBack = storage.readWhoDat().get();
+        assertEquals(original, new WhoDat(readBack));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveWhoDat(original);
+        readBack = storage.readWhoDat().get();
+        assertEquals(original, new WhoDat(readBack));
+    }
+
+    @Test
+    public void readWhoDat_sharedClassIdsAndTags_constructedOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempWhoDat.bin");
+        BinaryWhoDatStorage storage = new BinaryWhoDatStorage(filePath);
+        storage.saveWhoDat(getTypicalWhoDat());
+
+        ReadOnlyWhoDat readBack = storage.readWhoDat().get();
+        // every typical person is in the same class
+        assertTrue(readBack.getPersonList().stream()
+                .allMatch(person -> person.getClassId() == readBack.getPersonList().get(0).getClassId()));
+    }
+
+    @Test
+    public void readWhoDat_noBinaryFile_migratesLegacyJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("whodat.json");
+        Files.copy(TYPICAL_PERSONS_JSON_FILE, jsonFilePath);
+        Path binaryFilePath = BinaryWhoDatStorage.toBinaryFilePath(jsonFilePath);
+        BinaryWhoDatStorage storage = new BinaryWhoDatStorage(binaryFilePath, new JsonWhoDatStorage(jsonFilePath));
+
+        assertEquals(getTypicalWhoDat(), new WhoDat(storage.readWhoDat().get()));
+        assertTrue(Files.exists(binaryFilePath));
+
+        // later reads use the binary file, even if the JSON file is gone
+        Files.delete(jsonFilePath);
+        assertEquals(getTypicalWhoDat(), new WhoDat(storage.readWhoDat().get()));
+    }
+
+    @Test
+    public void readWhoDat_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.write(filePath, "not binary format!".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new BinaryWhoDatStorage(filePath).readWhoDat());
+    }
+
+    @Test
+    public void readWhoDat_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryWhoDatStorage(filePath).saveWhoDat(getTypicalWhoDat());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryWhoDatStorage(filePath).readWhoDat());
+    }
+}
@@ -0,0 +1,264 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyWhoDat;
+import seedu.address.model.WhoDat;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalWhoDatStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalWhoDatStorage createStorage(Path filePath, int compactionThreshold) {
+        return new JournalWhoDatStorage(new JsonWhoDatStorage(filePath), compactionThreshold);
+    }
+
+    private ReadOnlyWhoDat readBack(Path filePath) throws Exception {
+        return createStorage(filePath, JournalWhoDatStorage.DEFAULT_COMPACTION_THRESHOLD).readWhoDat().get();
+    }
+
+    /**
+     * Waits for a background compaction to leave only the base record in the journal at {@code journalPath}.
+     */
+    private void awaitCompaction(Path journalPath) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.readAllLines(journalPath).size() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(createStorage(filePath, 10).readWhoDat().isPresent());
+    }
+
+    @Test
+    public void readAndSave_mutations_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        Path journalPath = JournalWhoDatStorage.getJournalFilePath(filePath);
+        JournalWhoDatStorage storage = createStorage(filePath, 100);
+        WhoDat original = getTypicalWhoDat();
+
+        // first save writes the snapshot
+        storage.saveWhoDat(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(original, new WhoDat(readBack(filePath)));
+
+        // later saves only append to the journal
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Edited").build());
+        storage.saveWhoDat(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(original, new WhoDat(readBack(filePath)));
+
+        // saving unchanged data appends nothing
+        storage.saveWhoDat(original);
+        assertEquals(4, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void save_afterRead_continuesExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        WhoDat original = getTypicalWhoDat();
+        createStorage(filePath, 100).saveWhoDat(original);
+        original.addPerson(HOON);
+        JournalWhoDatStorage firstSession = createStorage(filePath, 100);
+        firstSession.readWhoDat();
+        firstSession.saveWhoDat(original);
+
+        JournalWhoDatStorage secondSession = createStorage(filePath, 100);
+        WhoDat reloaded = new WhoDat(secondSession.readWhoDat().get());
+        assertEquals(original, reloaded);
+        reloaded.addPerson(IDA);
+        secondSession.saveWhoDat(reloaded);
+
+        assertEquals(reloaded, new WhoDat(readBack(filePath)));
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        Path journalPath = JournalWhoDatStorage.getJournalFilePath(filePath);
+        JournalWhoDatStorage storage = createStorage(filePath, 2);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveWhoDat(original);
+
+        awaitCompaction(journalPath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new WhoDat(new JsonWhoDatStorage(filePath).readWhoDat().get()));
+        assertEquals(original, new WhoDat(readBack(filePath)));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_skipped() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        Path journalPath = JournalWhoDatStorage.getJournalFilePath(filePath);
+        JournalWhoDatStorage storage = createStorage(filePath, 100);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+        original.addPerson(HOON);
+        storage.saveWhoDat(original);
+
+        Files.write(journalPath, "{\"op\":\"add\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new WhoDat(readBack(filePath)));
+    }
+
+    @Test
+    public void read_journalOfOtherSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        JournalWhoDatStorage storage = createStorage(filePath, 100);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+        original.addPerson(HOON);
+        storage.saveWhoDat(original);
+
+        // snapshot replaced behind the journal's back
+        WhoDat replacement = new WhoDat();
+        replacement.addPerson(IDA);
+        new JsonWhoDatStorage(filePath).saveWhoDat(replacement);
+
+        assertEquals(replacement, new WhoDat(readBack(filePath)));
+    }
+
+    @Test
+    public void readAndSave_binarySnapshots_success() throws Exception {
+        Path filePath = testFolder.resolve("whodat.bin");
+        JournalWhoDatStorage storage = new JournalWhoDatStorage(new BinaryWhoDatStorage(filePath), 1);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+        original.addPerson(HOON);
+        storage.saveWhoDat(original);
+        awaitCompaction(JournalWhoDatStorage.getJournalFilePath(filePath));
+
+        JournalWhoDatStorage reloaded = new JournalWhoDatStorage(new BinaryWhoDatStorage(filePath));
+        assertEquals(original, new WhoDat(reloaded.readWhoDat().get()));
+    }
+
+    @Test
+    public void read_migratedDataNotWritten_savesFullSnapshotLater() throws Exception {
+        Path jsonFilePath = testFolder.resolve("whodat.json");
+        new JsonWhoDatStorage(jsonFilePath).saveWhoDat(getTypicalWhoDat());
+        // a file in place of the binary file's folder makes writing the migrated data fail
+        Path blockedFolder = testFolder.resolve("blocked");
+        Files.createFile(blockedFolder);
+        Path filePath = blockedFolder.resolve("whodat.bin");
+        JournalWhoDatStorage storage = new JournalWhoDatStorage(
+                new BinaryWhoDatStorage(filePath, new JsonWhoDatStorage(jsonFilePath)));
+
+        WhoDat migrated = new WhoDat(storage.readWhoDat().get());
+        assertEquals(getTypicalWhoDat(), migrated);
+        assertFalse(Files.exists(filePath));
+
+        // once the folder can be created, the next save writes all the data rather than only the change
+        Files.delete(blockedFolder);
+        migrated.addPerson(HOON);
+        storage.saveWhoDat(migrated);
+        assertEquals(migrated, new WhoDat(new BinaryWhoDatStorage(filePath).readWhoDat().get()));
+    }
+
+    @Test
+    public void read_duringBackgroundCompaction_matchesSavedData() throws Exception {
+        Path filePath = testFolder.resolve("whodat.bin");
+        JournalWhoDatStorage storage = new JournalWhoDatStorage(new BinaryWhoDatStorage(filePath), 1);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+
+        // every save starts a compaction, and the read that follows races with it
+        for (int i = 0; i < 20; i++) {
+            original.addPerson(new PersonBuilder().withName("Student " + toLetters(i))
+                    .withStudentId(String.format("A9%06dZ", i)).withEmailId(String.format("E9%06d", i)).build());
+            storage.saveWhoDat(original);
+            assertEquals(original, new WhoDat(storage.readWhoDat().get()));
+        }
+    }
+
+    private static String toLetters(int number) {
+        return String.valueOf((char) ('a' + number % 26)) + (char) ('a' + number / 26);
+    }
+
+    @Test
+    public void save_undoOfDeletion_appendsInsertRecord() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        Path journalPath = JournalWhoDatStorage.getJournalFilePath(filePath);
+        JournalWhoDatStorage storage = createStorage(filePath, 100);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        ReadOnlyWhoDat beforeDeletion = original.snapshot();
+        original.removePerson(BENSON);
+        storage.saveWhoDat(original);
+        original.restore(beforeDeletion);
+        storage.saveWhoDat(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        List<String> lines = Files.readAllLines(journalPath);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(2).contains("\"op\":\"insert\""));
+        assertEquals(original.getPersonList(), readBack(filePath).getPersonList());
+    }
+
+    @Test
+    public void save_wholeListReplaced_writesFullSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("whodat.json");
+        Path journalPath = JournalWhoDatStorage.getJournalFilePath(filePath);
+        JournalWhoDatStorage storage = createStorage(filePath, 100);
+        WhoDat original = getTypicalWhoDat();
+        storage.saveWhoDat(original);
+        original.addPerson(HOON);
+        storage.saveWhoDat(original);
+
+        List<Person> reordered = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reordered);
+        original.setPersons(reordered);
+        storage.saveWhoDat(original);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(reordered, readBack(filePath).getPersonList());
+    }
+
+    @Test
+    public void applyTo_insertRecord_insertsAtIndex() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON));
+        JsonAdaptedJournalRecord.insert(1, HOON).applyTo(persons);
+        JsonAdaptedJournalRecord.insert(3, IDA).applyTo(persons);
+        assertEquals(Arrays.asList(ALICE, HOON, BENSON, IDA), persons);
+
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedJournalRecord.insert(5, CARL).applyTo(persons));
+    }
+}
@@ -26,7 +26,7 @@ public class JsonAdaptedPersonTest {
 
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_STUDENT_ID = BENSON.getStudentId().toString();
-    private static final String VALID_EMAIL = BENSON.getEmail().value;
+    private static final String VALID_EMAIL = BENSON.getEmail().getValue();
     private static final String VALID_ADDRESS = BENSON.getClassId().toString();
     private static final List<JsonAdaptedTag> VALID_TAGS = BENSON.getTags().stream()
             .map(JsonAdaptedTag::new)
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyWhoDat;
 import seedu.address.model.WhoDat;
 
@@ -86,6 +87,23 @@ public class JsonClassIdBookStorageTest {
 
     }
 
+    @Test
+    public void readWhoDat_typicalPersonsFile_success() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableWhoDatTest", "typicalPersonsWhoDat.json");
+        ReadOnlyWhoDat readBack = new JsonWhoDatStorage(filePath).readWhoDat().get();
+        assertEquals(getTypicalWhoDat(), new WhoDat(readBack));
+    }
+
+    @Test
+    public void saveWhoDat_streamedFile_readableAsSerializableWhoDat() throws Exception {
+        Path filePath = testFolder.resolve("TempWhoDat.json");
+        WhoDat original = getTypicalWhoDat();
+        new JsonWhoDatStorage(filePath).saveWhoDat(original);
+
+        JsonSerializableWhoDat dataFromFile = JsonUtil.readJsonFile(filePath, JsonSerializableWhoDat.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+    }
+
     @Test
     public void saveWhoDat_nullWhoDat_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveWhoDat(null, "SomeFile.json"));
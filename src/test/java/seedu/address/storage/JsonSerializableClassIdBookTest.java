@@ -1,16 +1,19 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.WhoDat;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableClassIdBookTest {
@@ -29,6 +32,15 @@ public class JsonSerializableClassIdBookTest {
         assertEquals(whoDatFromFile, typicalPersonsWhoDat);
     }
 
+    @Test
+    public void toModelType_sharedClassIds_sameInstance() throws Exception {
+        JsonSerializableWhoDat dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableWhoDat.class).get();
+        List<Person> persons = dataFromFile.toModelType().getPersonList();
+        // every typical person is in the same class
+        assertTrue(persons.stream().allMatch(person -> person.getClassId() == persons.get(0).getClassId()));
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableWhoDat dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -40,8 +52,10 @@ public class JsonSerializableClassIdBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableWhoDat dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableWhoDat.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableWhoDat.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableWhoDat.MESSAGE_DUPLICATE_PERSON + "\n"
+                + "Student ID A1234567G is used by both Alice Pauline and Alice Pauline\n"
+                + "Email ID E0123456 is used by both Alice Pauline and Alice Pauline";
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
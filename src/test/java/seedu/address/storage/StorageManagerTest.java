@@ -2,9 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalWhoDat;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +74,72 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getWhoDatFilePath());
     }
 
+    @Test
+    public void saveWhoDatInBackground_burstOfSaves_coalesced() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyWhoDat> written = new CopyOnWriteArrayList<>();
+        JsonWhoDatStorage blockingStorage = new JsonWhoDatStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                written.add(whoDat);
+                super.saveWhoDat(whoDat, filePath);
+            }
+        };
+        storageManager = new StorageManager(blockingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        List<SaveStatus> statuses = new CopyOnWriteArrayList<>();
+        storageManager.addSaveStatusListener(statuses::add);
+
+        WhoDat whoDat = new WhoDat();
+        storageManager.saveWhoDatInBackground(whoDat);
+        firstWriteStarted.await();
+        whoDat.addPerson(ALICE);
+        storageManager.saveWhoDatInBackground(whoDat);
+        whoDat.addPerson(BENSON);
+        storageManager.saveWhoDatInBackground(whoDat);
+        releaseFirstWrite.countDown();
+        storageManager.flushWhoDat();
+
+        // the two saves made during the first write are written once, with the latest data
+        assertEquals(2, written.size());
+        assertEquals(whoDat, new WhoDat(written.get(1)));
+        assertEquals(whoDat, new WhoDat(storageManager.readWhoDat().get()));
+        assertEquals(Arrays.asList(SaveStatus.SAVING, SaveStatus.SAVED), statuses);
+    }
+
+    @Test
+    public void saveWhoDatInBackground_snapshotTaken_laterChangesNotWritten() throws Exception {
+        WhoDat whoDat = new WhoDat();
+        whoDat.addPerson(ALICE);
+        storageManager.saveWhoDatInBackground(whoDat);
+        whoDat.addPerson(BENSON);
+        storageManager.flushWhoDat();
+
+        WhoDat expected = new WhoDat();
+        expected.addPerson(ALICE);
+        assertEquals(expected, new WhoDat(storageManager.readWhoDat().get()));
+    }
+
+    @Test
+    public void flushWhoDat_writeFails_reportsFailure() {
+        IOException failure = new IOException("disk full");
+        JsonWhoDatStorage failingStorage = new JsonWhoDatStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveWhoDat(ReadOnlyWhoDat whoDat, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        storageManager = new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        storageManager.saveWhoDatInBackground(getTypicalWhoDat());
+        assertThrows(IOException.class, () -> storageManager.flushWhoDat());
+        assertEquals(Optional.of(failure), storageManager.getWhoDatSaveFailure());
+    }
+
 }
@@ -31,8 +31,8 @@ public class PersonUtil {
     public static String getPersonDetails(Person person) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + person.getName().fullName + " ");
-        sb.append(PREFIX_STUDENT_ID + person.getStudentId().value + " ");
-        sb.append(PREFIX_EMAIL_ID + person.getEmail().value + " ");
+        sb.append(PREFIX_STUDENT_ID + person.getStudentId().getValue() + " ");
+        sb.append(PREFIX_EMAIL_ID + person.getEmail().getValue() + " ");
         sb.append(PREFIX_CLASS_ID + person.getClassId().value + " ");
         person.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
@@ -46,8 +46,8 @@ public class PersonUtil {
     public static String getEditPersonDescriptorDetails(EditPersonDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
-        descriptor.getStudentId().ifPresent(phone -> sb.append(PREFIX_STUDENT_ID).append(phone.value).append(" "));
-        descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_EMAIL_ID).append(email.value).append(" "));
+        descriptor.getStudentId().ifPresent(phone -> sb.append(PREFIX_STUDENT_ID).append(phone.getValue()).append(" "));
+        descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_EMAIL_ID).append(email.getValue()).append(" "));
         descriptor.getClassId().ifPresent(address -> sb.append(PREFIX_CLASS_ID).append(address.value).append(" "));
         if (descriptor.getTags().isPresent()) {
             Set<Tag> tags = descriptor.getTags().get();